@@ -0,0 +1,165 @@
+package org.example.expert.loadtest;
+
+import jakarta.persistence.EntityManager;
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.comment.service.CommentService;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.manager.service.ManagerService;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.service.TodoService;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.hibernate.Session;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * GET 조회 경로의 요청당 할당량 비교 - 관리되는 엔티티 로딩(이전 방식) vs DTO 프로젝션(현재 서비스)
+ *
+ * 같은 스레드에서 서비스 계층을 직접 호출하고 스레드별 할당 바이트(ThreadMXBean)로 측정한다.
+ * HTTP/직렬화 비용은 두 방식에 동일하므로 제외하고, 영속성 컨텍스트에 올라간 엔티티 수도 함께 출력한다.
+ *
+ *   gradle allocationBenchmark -PallocationBenchmark.iterations=20000
+ */
+public class AllocationBenchmark {
+
+    private static final int COMMENTS_PER_TODO = 20;
+    private static final int MANAGERS_PER_TODO = 5;
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+    private final TodoService todoService;
+    private final CommentService commentService;
+    private final ManagerService managerService;
+    private final com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private AllocationBenchmark(ConfigurableApplicationContext context) {
+        this.entityManager = context.getBean(EntityManager.class);
+        this.readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        this.readOnlyTransaction.setReadOnly(true);
+        this.todoService = context.getBean(TodoService.class);
+        this.commentService = context.getBean(CommentService.class);
+        this.managerService = context.getBean(ManagerService.class);
+    }
+
+    public static void main(String[] args) throws Exception {
+        int iterations = Integer.getInteger("allocationBenchmark.iterations", 10_000);
+
+        try (WeatherStubServer weatherStub = WeatherStubServer.start()) {
+            ConfigurableApplicationContext context = LoadTestApplication.start("allocation", weatherStub.baseUrl());
+            try {
+                long todoId = seed(context.getBean(JdbcTemplate.class));
+                new AllocationBenchmark(context).run(todoId, iterations);
+            } finally {
+                context.close();
+            }
+        }
+    }
+
+    private void run(long todoId, int iterations) {
+        System.out.printf("요청당 할당량 (반복 %d회, 댓글 %d개, 담당자 %d명)%n%n", iterations, COMMENTS_PER_TODO, MANAGERS_PER_TODO);
+        System.out.printf("%-14s %-11s %12s %10s%n", "endpoint", "mode", "bytes/op", "entities");
+
+        compare("getTodo", iterations, () -> legacyGetTodo(todoId), () -> todoService.getTodo(todoId, todoService.getTodoModifiedAt(todoId)));
+        compare("getComments", iterations, () -> legacyGetComments(todoId), () -> commentService.getComments(todoId));
+        compare("getManagers", iterations, () -> legacyGetManagers(todoId), () -> managerService.getManagers(todoId));
+    }
+
+    private void compare(String endpoint, int iterations, Supplier<?> entityPath, Supplier<?> projectionPath) {
+        Result entity = measure(entityPath, iterations);
+        Result projection = measure(projectionPath, iterations);
+
+        System.out.printf("%-14s %-11s %12d %10d%n", endpoint, "entity", entity.bytesPerOp(), entity.entities());
+        System.out.printf("%-14s %-11s %12d %10d  (%.0f%% 감소)%n", "", "projection", projection.bytesPerOp(), projection.entities(),
+                100.0 * (entity.bytesPerOp() - projection.bytesPerOp()) / entity.bytesPerOp());
+    }
+
+    // 요청 하나 = 읽기 전용 트랜잭션 하나 (서비스의 @Transactional 은 여기에 참여)
+    private Result measure(Supplier<?> path, int iterations) {
+        for (int i = 0; i < iterations / 5; i++) {
+            readOnlyTransaction.execute(status -> path.get());
+        }
+
+        long entities = readOnlyTransaction.execute(status -> {
+            path.get();
+            return (long) entityManager.unwrap(Session.class).getStatistics().getEntityCount();
+        });
+
+        long threadId = Thread.currentThread().getId();
+        long before = threadMXBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < iterations; i++) {
+            readOnlyTransaction.execute(status -> path.get());
+        }
+        long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - before;
+        return new Result(allocated / iterations, entities);
+    }
+
+    // 변경 전 TodoService.getTodo : FETCH JOIN 으로 엔티티 로딩 후 DTO 변환
+    private TodoResponse legacyGetTodo(long todoId) {
+        Todo todo = entityManager.createQuery("SELECT t FROM Todo t LEFT JOIN FETCH t.user WHERE t.id = :todoId", Todo.class)
+                .setParameter("todoId", todoId)
+                .getSingleResult();
+        return new TodoResponse(todo.getId(), todo.getTitle(), todo.getContents(), todo.getWeather(), todo.getWeatherStatus(),
+                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()), todo.getCreatedAt(), todo.getModifiedAt());
+    }
+
+    // 변경 전 CommentService.getComments
+    private List<CommentResponse> legacyGetComments(long todoId) {
+        List<Comment> comments = entityManager.createQuery("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId", Comment.class)
+                .setParameter("todoId", todoId)
+                .getResultList();
+        List<CommentResponse> dtoList = new ArrayList<>();
+        for (Comment comment : comments) {
+            dtoList.add(new CommentResponse(comment.getId(), comment.getContents(),
+                    new UserResponse(comment.getUser().getId(), comment.getUser().getEmail())));
+        }
+        return dtoList;
+    }
+
+    // 변경 전 ManagerService.getManagers : 일정 존재 확인을 위해 Todo 엔티티까지 로딩
+    private List<ManagerResponse> legacyGetManagers(long todoId) {
+        Todo todo = entityManager.find(Todo.class, todoId);
+        List<Manager> managers = entityManager.createQuery("SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id = :todoId", Manager.class)
+                .setParameter("todoId", todo.getId())
+                .getResultList();
+        List<ManagerResponse> dtoList = new ArrayList<>();
+        for (Manager manager : managers) {
+            dtoList.add(new ManagerResponse(manager.getId(), new UserResponse(manager.getUser().getId(), manager.getUser().getEmail())));
+        }
+        return dtoList;
+    }
+
+    // 일정 1개 + 댓글/담당자 (작성자는 모두 다른 유저)
+    private static long seed(JdbcTemplate jdbcTemplate) {
+        LocalDateTime now = LocalDateTime.now();
+        int userCount = Math.max(COMMENTS_PER_TODO, MANAGERS_PER_TODO) + 1;
+        for (int i = 1; i <= userCount; i++) {
+            jdbcTemplate.update("INSERT INTO users (id, email, password, nickname, user_role, created_at, modified_at) VALUES (?, ?, ?, ?, 'USER', ?, ?)",
+                    i, "bench" + i + "@example.com", "{noop}password", "bench" + i, now, now);
+        }
+        jdbcTemplate.update("INSERT INTO todos (id, title, contents, weather, weather_status, weather_attempts, user_id, created_at, modified_at) " +
+                "VALUES (1, ?, ?, 'Sunny', 'READY', 0, 1, ?, ?)", "벤치마크 일정", "본문 ".repeat(80), now, now);
+        for (int i = 1; i <= COMMENTS_PER_TODO; i++) {
+            jdbcTemplate.update("INSERT INTO comments (contents, todo_id, user_id, created_at, modified_at) VALUES (?, 1, ?, ?, ?)",
+                    "댓글 ".repeat(60) + i, i + 1, now, now);
+        }
+        for (int i = 1; i <= MANAGERS_PER_TODO; i++) {
+            jdbcTemplate.update("INSERT INTO managers (todo_id, user_id) VALUES (1, ?)", i + 1);
+        }
+        return 1L;
+    }
+
+    private record Result(long bytesPerOp, long entities) {
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.expert.loadtest;
+
+import org.example.expert.ExpertApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 부하 테스트/벤치마크용 애플리케이션 기동 - H2(MySQL 모드) 메모리 DB + 날씨 스텁, 요청 제한 해제
+ */
+public final class LoadTestApplication {
+
+    private LoadTestApplication() {
+    }
+
+    public static ConfigurableApplicationContext start(String database, String weatherBaseUrl) {
+        // application.yml 의 ${DB_URL} 등 환경 변수 자리보다 우선하도록 커맨드라인 인자로 전달
+        return new SpringApplicationBuilder(ExpertApplication.class)
+                .run(
+                        "--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:" + database + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--jwt.secret.key=bG9hZC10ZXN0LWp3dC1zZWNyZXQta2V5LTAxMjM0NTY3ODktYWJjZGVm",
+                        "--weather.client.base-url=" + weatherBaseUrl,
+                        "--rate-limit.enabled=false",
+                        "--logging.level.root=WARN",
+                        "--spring.main.banner-mode=off"
+                );
+    }
+}
@@ -0,0 +1,386 @@
+package org.example.expert.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 부하 테스트 - H2(MySQL 모드) 위에 애플리케이션을 띄우고, 데이터를 시드한 뒤 혼합 워크로드를 일정 비율로 보낸다.
+ *
+ * 요청은 정해진 간격으로 발사되고(open loop), 응답 시간은 "발사 예정 시각" 부터 측정한다.
+ * 서버가 밀려서 요청이 늦게 나가더라도 대기 시간이 지연으로 잡히도록 하기 위함 (coordinated omission 방지)
+ *
+ * 설정은 loadtest.properties 기본값을 시스템 프로퍼티 loadTest.* 로 덮어쓴다.
+ * 예산(p99, 에러율)을 넘으면 종료 코드 1 로 끝나서 빌드가 실패한다.
+ */
+public class LoadTestRunner {
+
+    private static final String PASSWORD = "Password1234!";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(10);
+    // 시드는 측정하지 않고, 막 기동한 서버에 동시 요청이 몰리므로 넉넉하게 기다린다.
+    private static final Duration SEED_REQUEST_TIMEOUT = Duration.ofSeconds(60);
+    private static final String[] SEARCH_WORDS = {"회의", "보고서", "운동", "장보기", "독서", "청소", "여행", "공부"};
+
+    private final Properties config;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient;
+    private final String baseUrl;
+
+    private final List<SeedUser> users = new CopyOnWriteArrayList<>();
+    private final ConcurrentLinkedQueue<Long> todoIds = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<AssignTarget> assignTargets = new ConcurrentLinkedQueue<>(); // 담당자를 아직 지정하지 않은 할 일
+    private final Map<String, LatencyRecorder> recorders = new LinkedHashMap<>();
+    private final Map<String, Integer> mix = new LinkedHashMap<>();
+
+    private volatile long[] todoIdSnapshot = new long[0];
+
+    private LoadTestRunner(Properties config, String baseUrl, int concurrency) {
+        this.config = config;
+        this.baseUrl = baseUrl;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(concurrency))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Properties config = loadConfig();
+        int exitCode;
+
+        try (WeatherStubServer weatherStub = WeatherStubServer.start()) {
+            ConfigurableApplicationContext context = LoadTestApplication.start("loadtest", weatherStub.baseUrl());
+            try {
+                String port = context.getEnvironment().getProperty("local.server.port");
+                LoadTestRunner runner = new LoadTestRunner(config, "http://localhost:" + port, intValue(config, "concurrency"));
+                exitCode = runner.run();
+            } catch (Exception e) {
+                // HttpClient 실행 스레드가 데몬이 아니므로, 예외로 끝나도 System.exit 로 종료해야 태스크가 멈추지 않는다.
+                e.printStackTrace();
+                exitCode = 1;
+            } finally {
+                context.close();
+            }
+        }
+        System.exit(exitCode);
+    }
+
+    private static Properties loadConfig() throws IOException {
+        Properties config = new Properties();
+        try (InputStream inputStream = LoadTestRunner.class.getResourceAsStream("/loadtest.properties")) {
+            config.load(inputStream);
+        }
+        System.getProperties().stringPropertyNames().stream()
+                .filter(name -> name.startsWith("loadTest."))
+                .forEach(name -> config.setProperty(name.substring("loadTest.".length()), System.getProperty(name)));
+        return config;
+    }
+
+    private int run() throws Exception {
+        for (String operation : List.of("signin", "create-todo", "search", "comment", "assign-manager")) {
+            recorders.put(operation, new LatencyRecorder());
+            mix.put(operation, intValue(config, "mix." + operation));
+        }
+
+        seed();
+
+        int rate = intValue(config, "rate");
+        int warmupSeconds = intValue(config, "warmup-seconds");
+        int durationSeconds = intValue(config, "duration-seconds");
+        System.out.printf("부하 시작 - %d req/s, 워밍업 %ds, 측정 %ds, 동시성 %d%n",
+                rate, warmupSeconds, durationSeconds, intValue(config, "concurrency"));
+
+        drive(rate, warmupSeconds, false);
+        for (LatencyRecorder recorder : recorders.values()) {
+            recorder.reset();
+        }
+        drive(rate, durationSeconds, true);
+
+        return report(durationSeconds);
+    }
+
+    // 사용자 가입 + 사용자당 할 일 생성 + 담당자 지정용 할 일
+    private void seed() throws Exception {
+        int userCount = intValue(config, "users");
+        int todosPerUser = intValue(config, "todos-per-user");
+        long started = System.nanoTime();
+
+        ExecutorService executor = Executors.newFixedThreadPool(intValue(config, "concurrency"));
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < userCount; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    SeedUser user = signup(index);
+                    users.add(user);
+                    for (int j = 0; j < todosPerUser; j++) {
+                        createTodo(user, SEED_REQUEST_TIMEOUT);
+                    }
+                    return null;
+                }));
+            }
+            awaitAll(futures);
+
+            // 담당자 지정 요청마다 쓸 할 일을 미리 만든다. (측정 구간에는 담당자 지정 요청만 포함)
+            futures.clear();
+            int assignments = expectedAssignments();
+            for (int i = 0; i < assignments; i++) {
+                futures.add(executor.submit(() -> {
+                    createAssignTarget(randomUser());
+                    return null;
+                }));
+            }
+            awaitAll(futures);
+        } finally {
+            executor.shutdown();
+        }
+        refreshTodoIds();
+
+        System.out.printf("시드 완료 - 사용자 %d, 할 일 %d, 담당자 지정용 %d (%.1fs)%n",
+                users.size(), todoIds.size(), assignTargets.size(), (System.nanoTime() - started) / 1e9);
+    }
+
+    // 시드 단계의 동시 요청은 동시성 제한(503)에 걸릴 수 있으므로 잠시 쉬었다가 다시 보낸다.
+    private void createAssignTarget(SeedUser owner) throws Exception {
+        while (true) {
+            HttpResponse<String> created = post("/todos", owner, Map.of("title", "담당자 지정", "contents", "부하 테스트"),
+                    SEED_REQUEST_TIMEOUT);
+            if (created.statusCode() == 200) {
+                long todoId = objectMapper.readTree(created.body()).get("id").asLong();
+                todoIds.add(todoId);
+                assignTargets.add(new AssignTarget(owner, todoId));
+                return;
+            }
+            if (created.statusCode() != 503) {
+                throw new IllegalStateException("할 일 생성 실패 : " + created.statusCode() + " " + created.body());
+            }
+            Thread.sleep(100);
+        }
+    }
+
+    // 워밍업 + 측정 구간에 보낼 담당자 지정 요청 수 (비율 오차를 고려해 20% 여유)
+    private int expectedAssignments() {
+        int totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        long requests = (long) intValue(config, "rate") * (intValue(config, "warmup-seconds") + intValue(config, "duration-seconds"));
+        return (int) Math.ceil(requests * mix.get("assign-manager") * 1.2 / totalWeight);
+    }
+
+    private static void awaitAll(List<Future<?>> futures) throws Exception {
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+
+    private void drive(int rate, int seconds, boolean measured) throws InterruptedException {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long total = (long) rate * seconds;
+        long start = System.nanoTime();
+
+        ExecutorService workers = Executors.newFixedThreadPool(intValue(config, "concurrency"));
+        for (long i = 0; i < total; i++) {
+            long intendedStart = start + i * intervalNanos;
+            long wait = intendedStart - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            String operation = pickOperation();
+            workers.execute(() -> execute(operation, intendedStart));
+            if (!measured && i % rate == 0) {
+                refreshTodoIds();
+            }
+        }
+        workers.shutdown();
+        workers.awaitTermination(5, TimeUnit.MINUTES);
+        refreshTodoIds();
+    }
+
+    private void execute(String operation, long intendedStart) {
+        boolean success;
+        try {
+            success = switch (operation) {
+                case "signin" -> signin(randomUser());
+                case "create-todo" -> createTodo(randomUser(), REQUEST_TIMEOUT);
+                case "search" -> search(randomUser());
+                case "comment" -> comment(randomUser());
+                case "assign-manager" -> assignManager();
+                default -> throw new IllegalStateException(operation);
+            };
+        } catch (Exception e) {
+            success = false;
+        }
+        recorders.get(operation).record(System.nanoTime() - intendedStart, success);
+    }
+
+    private String pickOperation() {
+        int totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        int pick = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Map.Entry<String, Integer> entry : mix.entrySet()) {
+            pick -= entry.getValue();
+            if (pick < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException();
+    }
+
+    private SeedUser signup(int index) throws Exception {
+        String email = "load" + index + "@example.com";
+        HttpResponse<String> response = post("/auth/signup", null, Map.of(
+                "email", email,
+                "password", PASSWORD,
+                "nickname", "loader" + index,
+                "userRole", "USER"
+        ), SEED_REQUEST_TIMEOUT);
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("회원가입 실패 : " + response.statusCode() + " " + response.body());
+        }
+        String token = objectMapper.readTree(response.body()).get("bearerToken").asText();
+        return new SeedUser(email, token, subjectOf(token));
+    }
+
+    private boolean signin(SeedUser user) throws Exception {
+        return post("/auth/signin", null, Map.of("email", user.email(), "password", PASSWORD)).statusCode() == 200;
+    }
+
+    private boolean createTodo(SeedUser user, Duration timeout) throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        HttpResponse<String> response = post("/todos", user, Map.of(
+                "title", SEARCH_WORDS[random.nextInt(SEARCH_WORDS.length)] + " " + random.nextInt(10_000),
+                "contents", "부하 테스트용 할 일 내용 " + random.nextLong()
+        ), timeout);
+        if (response.statusCode() != 200) {
+            return false;
+        }
+        todoIds.add(objectMapper.readTree(response.body()).get("id").asLong());
+        return true;
+    }
+
+    private boolean search(SeedUser user) throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String query = "?title=" + URLEncoder.encode(SEARCH_WORDS[random.nextInt(SEARCH_WORDS.length)], StandardCharsets.UTF_8)
+                + "&page=" + (random.nextInt(3) + 1) + "&size=10";
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/todos/search" + query))
+                .header("Authorization", user.token())
+                .timeout(REQUEST_TIMEOUT)
+                .GET()
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+    }
+
+    private boolean comment(SeedUser user) throws Exception {
+        return post("/todos/" + randomTodoId() + "/comments", user, Map.of("contents", "댓글 " + System.nanoTime()))
+                .statusCode() == 200;
+    }
+
+    // 담당자 지정은 작성자만 가능하므로, 시드 단계에서 만들어 둔 할 일을 하나씩 꺼내 작성자가 다른 사용자를 지정한다.
+    private boolean assignManager() throws Exception {
+        AssignTarget target = assignTargets.poll();
+        if (target == null) {
+            throw new IllegalStateException("담당자 지정용 할 일이 부족합니다.");
+        }
+
+        SeedUser manager = randomUser();
+        while (manager.id() == target.owner().id()) {
+            manager = randomUser();
+        }
+        return post("/todos/" + target.todoId() + "/managers", target.owner(), Map.of("managerUserId", manager.id()))
+                .statusCode() == 200;
+    }
+
+    private HttpResponse<String> post(String path, SeedUser user, Map<String, ?> body) throws Exception {
+        return post(path, user, body, REQUEST_TIMEOUT);
+    }
+
+    private HttpResponse<String> post(String path, SeedUser user, Map<String, ?> body, Duration timeout) throws Exception {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .timeout(timeout)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)));
+        if (user != null) {
+            builder.header("Authorization", user.token());
+        }
+        return httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private SeedUser randomUser() {
+        return users.get(ThreadLocalRandom.current().nextInt(users.size()));
+    }
+
+    private long randomTodoId() {
+        long[] snapshot = todoIdSnapshot;
+        return snapshot[ThreadLocalRandom.current().nextInt(snapshot.length)];
+    }
+
+    private void refreshTodoIds() {
+        todoIdSnapshot = todoIds.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private int report(int durationSeconds) {
+        double maxErrorRate = Double.parseDouble(config.getProperty("budget.max-error-rate"));
+        List<String> violations = new ArrayList<>();
+
+        System.out.println();
+        System.out.printf("%-16s %8s %7s %9s %9s %9s %9s %9s%n", "endpoint", "count", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+        for (Map.Entry<String, LatencyRecorder> entry : recorders.entrySet()) {
+            String operation = entry.getKey();
+            LatencyRecorder.Summary summary = entry.getValue().summarize(durationSeconds);
+            System.out.printf("%-16s %8d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n", operation,
+                    summary.count(), summary.errors(), summary.throughput(), summary.p50(), summary.p95(), summary.p99(), summary.max());
+
+            double p99Budget = Double.parseDouble(config.getProperty("budget.p99." + operation));
+            if (summary.p99() > p99Budget) {
+                violations.add(String.format("%s p99 %.1fms > 예산 %.0fms", operation, summary.p99(), p99Budget));
+            }
+            if (summary.errorRate() > maxErrorRate) {
+                violations.add(String.format("%s 에러율 %.2f%% > 허용 %.2f%%", operation, summary.errorRate() * 100, maxErrorRate * 100));
+            }
+        }
+        System.out.println();
+
+        if (violations.isEmpty()) {
+            System.out.println("모든 엔드포인트가 예산 이내입니다.");
+            return 0;
+        }
+        violations.forEach(violation -> System.out.println("예산 초과 - " + violation));
+        return 1;
+    }
+
+    private long subjectOf(String bearerToken) throws IOException {
+        String payload = bearerToken.substring("Bearer ".length()).split("\\.")[1];
+        JsonNode claims = objectMapper.readTree(Base64.getUrlDecoder().decode(payload));
+        return Long.parseLong(claims.get("sub").asText());
+    }
+
+    private static int intValue(Properties config, String key) {
+        return Integer.parseInt(config.getProperty(key).trim());
+    }
+
+    private record SeedUser(String email, String token, long id) {
+    }
+
+    private record AssignTarget(SeedUser owner, long todoId) {
+    }
+}
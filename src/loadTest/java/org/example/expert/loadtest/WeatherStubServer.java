@@ -0,0 +1,61 @@
+package org.example.expert.loadtest;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.StringJoiner;
+import java.util.concurrent.Executors;
+
+/**
+ * 외부 날씨 API 대신 사용하는 로컬 스텁 서버 (1년치 MM-dd 날씨 응답)
+ */
+public class WeatherStubServer implements AutoCloseable {
+
+    private static final String[] WEATHERS = {"Sunny", "Cloudy", "Rainy", "Snowy", "Windy"};
+
+    private final HttpServer server;
+
+    private WeatherStubServer(HttpServer server) {
+        this.server = server;
+    }
+
+    public static WeatherStubServer start() throws IOException {
+        byte[] body = buildBody();
+
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newFixedThreadPool(4));
+        server.createContext("/f-api/weather.json", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        server.start();
+        return new WeatherStubServer(server);
+    }
+
+    public String baseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private static byte[] buildBody() {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
+        StringJoiner joiner = new StringJoiner(",", "[", "]");
+        LocalDate date = LocalDate.of(2024, 1, 1); // 윤년 - 02-29 포함
+        for (int i = 0; i < 366; i++) {
+            joiner.add("{\"date\":\"" + date.plusDays(i).format(formatter) + "\",\"weather\":\"" + WEATHERS[i % WEATHERS.length] + "\"}");
+        }
+        return joiner.toString().getBytes(StandardCharsets.UTF_8);
+    }
+}
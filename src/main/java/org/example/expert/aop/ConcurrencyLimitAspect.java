@@ -0,0 +1,116 @@
+package org.example.expert.aop;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.example.expert.config.ConcurrencyLimitProperties;
+import org.example.expert.config.GradientConcurrencyLimiter;
+import org.example.expert.domain.common.annotation.ConcurrencyLimited;
+import org.example.expert.domain.common.exception.ServiceOverloadedException;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.TransactionTimedOutException;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @ConcurrencyLimited 메서드의 동시 실행 수 제한.
+ * 트랜잭션 advisor 보다 바깥에서 실행되어야 거절된 요청이 커넥션을 잡지 않는다. (@Transactional 기본 order 는 LOWEST_PRECEDENCE)
+ * SingleFlight 보다는 안쪽이라서, 합쳐진 호출은 실제로 실행되는 한 건만 한도를 차지한다.
+ * 한도는 name 별 GradientConcurrencyLimiter 가 실행 시간을 보고 조절하며, 현재 값은 concurrency.limit{name} 로 노출한다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class ConcurrencyLimitAspect {
+
+    private final ConcurrencyLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, LimitedName> limiters = new ConcurrentHashMap<>();
+
+    public ConcurrencyLimitAspect(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        // 설정된 한도는 첫 호출 전에도 메트릭으로 보이도록 미리 만든다.
+        properties.getLimiters().keySet().forEach(name -> limiters.put(name, register(name)));
+    }
+
+    @Around("@annotation(org.example.expert.domain.common.annotation.ConcurrencyLimited)")
+    public Object limit(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!properties.isEnabled()) {
+            return joinPoint.proceed();
+        }
+
+        ConcurrencyLimited concurrencyLimited = ((MethodSignature) joinPoint.getSignature()).getMethod()
+                .getAnnotation(ConcurrencyLimited.class);
+        LimitedName limited = limiters.computeIfAbsent(concurrencyLimited.value(), this::register);
+        GradientConcurrencyLimiter limiter = limited.limiter();
+
+        if (!limiter.tryAcquire()) {
+            limited.rejected().increment();
+            throw new ServiceOverloadedException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            limiter.onSample(System.nanoTime() - start);
+            return result;
+        } catch (Throwable e) {
+            if (isOverload(e)) {
+                limiter.onDropped();
+            } else {
+                // 제약 조건 위반, 데드락 등 요청 자체가 원인인 DB 예외와 비즈니스 예외는 정상 실행과 같이 실행 시간만 반영
+                limiter.onSample(System.nanoTime() - start);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * DB 가 밀려서 생기는 실패만 과부하 신호로 보고 한도를 줄인다.
+     * - 쿼리 / 트랜잭션 타임아웃, 잠금 대기 타임아웃
+     * - 커넥션 획득 실패 (트랜잭션 시작 시 또는 LazyConnectionDataSourceProxy 의 첫 쿼리 시)
+     */
+    private static boolean isOverload(Throwable e) {
+        return e instanceof QueryTimeoutException
+                || e instanceof CannotAcquireLockException
+                || e instanceof TransientDataAccessResourceException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof CannotCreateTransactionException
+                || e instanceof TransactionTimedOutException;
+    }
+
+    private LimitedName register(String name) {
+        ConcurrencyLimitProperties.Limiter config = properties.getLimiter(name);
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(
+                config.getInitialLimit(),
+                config.getMinLimit(),
+                config.getMaxLimit(),
+                config.getTolerance(),
+                config.getSmoothing()
+        );
+
+        Gauge.builder("concurrency.limit", limiter, GradientConcurrencyLimiter::getLimit)
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("concurrency.inflight", limiter, GradientConcurrencyLimiter::getInFlight)
+                .tag("name", name)
+                .register(meterRegistry);
+        return new LimitedName(limiter, meterRegistry.counter("concurrency.rejected", "name", name));
+    }
+
+    private record LimitedName(GradientConcurrencyLimiter limiter, Counter rejected) {
+    }
+}
@@ -0,0 +1,111 @@
+package org.example.expert.aop;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.example.expert.domain.common.annotation.SingleFlight;
+import org.example.expert.domain.common.exception.ServiceOverloadedException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * @SingleFlight 메서드의 동시 호출 합치기.
+ * (메서드, 인자) 별로 실행 중인 호출의 future 를 ConcurrentHashMap 에 두고, putIfAbsent 에 성공한 호출만 실행한다.
+ * 트랜잭션 advisor 보다 바깥에서 실행되어야 기다리는 호출이 트랜잭션/커넥션을 잡지 않는다. (@Transactional 기본 order 는 LOWEST_PRECEDENCE)
+ * 결과는 실행이 끝나는 즉시 map 에서 빠지므로 캐시가 아니며, 실행 중에 들어온 호출만 결과를 공유한다.
+ * 실행 중인 호출이 join-timeout 안에 끝나지 않으면 기다리던 호출은 503(ServiceOverloadedException)으로 끝낸다.
+ * (DB 가 멈춘 상황에서 기다리던 호출이 각자 다시 실행하면 부하가 기다리던 수만큼 늘어나므로 직접 실행하지 않는다.)
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SingleFlightAspect {
+
+    private final MeterRegistry meterRegistry;
+    private final long joinTimeoutNanos;
+    private final Map<Key, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Stats> statsByName = new ConcurrentHashMap<>();
+
+    public SingleFlightAspect(MeterRegistry meterRegistry, @Value("${singleflight.join-timeout:5s}") Duration joinTimeout) {
+        this.meterRegistry = meterRegistry;
+        this.joinTimeoutNanos = joinTimeout.toNanos();
+        Gauge.builder("singleflight.inflight", inFlight, Map::size).register(meterRegistry);
+    }
+
+    @Around("@annotation(org.example.expert.domain.common.annotation.SingleFlight)")
+    public Object coalesce(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        SingleFlight singleFlight = method.getAnnotation(SingleFlight.class);
+        Key key = new Key(method, Arrays.asList(joinPoint.getArgs()));
+        Stats stats = statsByName.computeIfAbsent(singleFlight.value(), this::register);
+
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(key, future);
+        if (running != null) {
+            stats.coalesced.increment();
+            try {
+                return running.get(joinTimeoutNanos, TimeUnit.NANOSECONDS);
+            } catch (ExecutionException e) {
+                throw e.getCause(); // 실행한 호출과 같은 예외 (InvalidRequestException 등)
+            } catch (TimeoutException e) {
+                stats.joinTimedOut.increment();
+                throw new ServiceOverloadedException("같은 요청이 아직 처리 중입니다. 잠시 후 다시 시도해주세요.");
+            }
+        }
+
+        stats.executed.increment();
+        try {
+            Object result = joinPoint.proceed();
+            future.complete(result);
+            return result;
+        } catch (Throwable e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private Stats register(String name) {
+        Stats stats = new Stats(
+                meterRegistry.counter("singleflight.calls", "name", name, "result", "executed"),
+                meterRegistry.counter("singleflight.calls", "name", name, "result", "coalesced"),
+                meterRegistry.counter("singleflight.calls", "name", name, "result", "join_timeout")
+        );
+        // 전체 호출 중 실행 없이 결과를 공유한 비율
+        Gauge.builder("singleflight.coalesced.ratio", stats, Stats::coalescedRatio)
+                .tag("name", name)
+                .register(meterRegistry);
+        return stats;
+    }
+
+    private record Key(Method method, List<Object> args) {
+    }
+
+    // joinTimedOut : 합쳐졌다가(coalesced) 기다리는 시간이 초과되어 503 으로 끝난 호출
+    private record Stats(Counter executed, Counter coalesced, Counter joinTimedOut) {
+
+        double coalescedRatio() {
+            double coalescedCount = coalesced.count();
+            double total = coalescedCount + executed.count();
+            return total == 0 ? 0 : coalescedCount / total;
+        }
+    }
+}
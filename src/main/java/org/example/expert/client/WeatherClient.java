@@ -1,62 +1,268 @@
 package org.example.expert.client;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
 import org.example.expert.client.dto.WeatherDto;
 import org.example.expert.domain.common.exception.ServerException;
-import org.springframework.boot.web.client.RestTemplateBuilder;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
+import org.example.expert.monitoring.timing.RequestTiming;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.util.StringUtils;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.io.IOException;
 import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
 
+/**
+ * 날씨 API 클라이언트 (JDK HttpClient, non-blocking)
+ * - 연결/요청 타임아웃을 항상 적용하여 느린 응답이 요청 스레드를 붙잡지 않는다.
+ * - 날씨 데이터(1년치 MM-dd 목록)는 cacheTtl 동안 재사용하고, 동시에 들어온 조회는 하나의 API 호출을 공유한다.
+ * - 연속 실패 시 서킷을 열어서 호출 없이 바로 마지막으로 받은 데이터(만료되었더라도)로 응답한다.
+ * - hedgeDelay 가 있으면 첫 응답이 늦을 때 같은 요청을 한 번 더 보내고 먼저 온 응답을 사용한다.
+ */
+@Slf4j
 @Component
 public class WeatherClient {
 
-    private final RestTemplate restTemplate;
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM-dd");
 
-    public WeatherClient(RestTemplateBuilder builder) {
-        this.restTemplate = builder.build();
+    private final WeatherClientProperties properties;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final CircuitBreaker circuitBreaker;
+    private final URI weatherApiUri;
+
+    private volatile CachedWeathers cachedWeathers;
+    private final AtomicReference<CompletableFuture<Map<String, String>>> inFlight = new AtomicReference<>();
+
+    private final Counter successCounter;
+    private final Counter failureCounter;
+    private final Counter fallbackCounter;
+    private final Counter hedgeCounter;
+
+    public WeatherClient(WeatherClientProperties properties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(properties.getConnectTimeout())
+                .build();
+        this.circuitBreaker = new CircuitBreaker(properties.getFailureThreshold(), properties.getOpenDuration());
+        this.weatherApiUri = buildWeatherApiUri();
+
+        this.successCounter = meterRegistry.counter("weather.client.calls", "result", "success");
+        this.failureCounter = meterRegistry.counter("weather.client.calls", "result", "failure");
+        this.fallbackCounter = meterRegistry.counter("weather.client.calls", "result", "fallback");
+        this.hedgeCounter = meterRegistry.counter("weather.client.hedged");
+        Gauge.builder("weather.client.circuit.open", circuitBreaker, cb -> cb.getState() == CircuitBreaker.State.CLOSED ? 0 : 1)
+                .register(meterRegistry);
     }
 
     public String getTodayWeather() {
-        ResponseEntity<WeatherDto[]> responseEntity =
-                restTemplate.getForEntity(buildWeatherApiUri(), WeatherDto[].class);
+        LocalDate today = LocalDate.now();
+        boolean hasDefault = StringUtils.hasText(properties.getDefaultWeather());
 
-        if (!HttpStatus.OK.equals(responseEntity.getStatusCode())) {
-            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + responseEntity.getStatusCode());
+        String weather = null;
+        try {
+            weather = getWeathers(List.of(today)).get(today);
+        } catch (ServerException e) {
+            if (!hasDefault) {
+                throw e;
+            }
         }
 
-        WeatherDto[] weatherArray = responseEntity.getBody();
-        if (weatherArray == null || weatherArray.length == 0) {
-            throw new ServerException("날씨 데이터가 없습니다.");
+        if (weather != null) {
+            return weather;
+        }
+        if (hasDefault) {
+            return properties.getDefaultWeather();
         }
+        throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+    }
 
-        String today = getCurrentDate();
+    // 여러 날짜의 날씨를 API 한 번 호출로 조회 (데이터가 없는 날짜는 결과에서 제외)
+    public Map<LocalDate, String> getWeathers(Collection<LocalDate> dates) {
+        long start = System.nanoTime();
+        try {
+            return getWeathersAsync(dates).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. " + e.getCause());
+        } finally {
+            RequestTiming.record(RequestTiming.Phase.WEATHER, System.nanoTime() - start); // Server-Timing weather 구간
+        }
+    }
 
-        for (WeatherDto weatherDto : weatherArray) {
-            if (today.equals(weatherDto.getDate())) {
-                return weatherDto.getWeather();
+    public CompletableFuture<Map<LocalDate, String>> getWeathersAsync(Collection<LocalDate> dates) {
+        return loadWeathers().thenApply(weatherByDate -> {
+            Map<LocalDate, String> result = new HashMap<>();
+            for (LocalDate date : dates) {
+                String weather = weatherByDate.get(date.format(DATE_FORMATTER));
+                if (weather != null) {
+                    result.put(date, weather);
+                }
             }
+            return result;
+        });
+    }
+
+    private CompletableFuture<Map<String, String>> loadWeathers() {
+        CachedWeathers cached = cachedWeathers;
+        if (cached != null && !cached.isExpired(properties.getCacheTtl())) {
+            return CompletableFuture.completedFuture(cached.weatherByDate());
         }
 
-        throw new ServerException("오늘에 해당하는 날씨 데이터를 찾을 수 없습니다.");
+        // 이미 진행 중인 호출이 있으면 같이 기다린다.
+        CompletableFuture<Map<String, String>> load = new CompletableFuture<>();
+        CompletableFuture<Map<String, String>> existing = inFlight.compareAndExchange(null, load);
+        if (existing != null) {
+            return existing;
+        }
+
+        if (!circuitBreaker.tryAcquirePermission()) {
+            completeWithFallback(load, cached, new ServerException("날씨 API 호출이 일시적으로 차단되었습니다. (circuit open)"));
+        } else {
+            fetchWithHedge().whenComplete((weatherByDate, error) -> {
+                if (error == null) {
+                    circuitBreaker.onSuccess();
+                    successCounter.increment();
+                    cachedWeathers = new CachedWeathers(weatherByDate, System.nanoTime());
+                    inFlight.set(null);
+                    load.complete(weatherByDate);
+                } else {
+                    circuitBreaker.onFailure();
+                    failureCounter.increment();
+                    completeWithFallback(load, cached, error);
+                }
+            });
+        }
+        return load;
+    }
+
+    // 실패 시 마지막으로 받은 데이터가 있으면 만료되었더라도 사용한다.
+    private void completeWithFallback(CompletableFuture<Map<String, String>> load, CachedWeathers stale, Throwable error) {
+        inFlight.set(null);
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+
+        if (stale != null) {
+            fallbackCounter.increment();
+            log.warn("Weather API failed, 캐시된 날씨 데이터를 사용합니다. : {}", cause.toString());
+            load.complete(stale.weatherByDate());
+            return;
+        }
+        load.completeExceptionally(cause instanceof ServerException
+                ? cause
+                : new ServerException("날씨 데이터를 가져오는데 실패했습니다. " + cause));
+    }
+
+    // 먼저 성공한 응답을 사용하고, 모든 시도가 실패한 경우에만 실패
+    private CompletableFuture<Map<String, String>> fetchWithHedge() {
+        CompletableFuture<Map<String, String>> primary = fetchWeathers();
+        if (properties.getHedgeDelay().isZero()) {
+            return primary;
+        }
+
+        CompletableFuture<Map<String, String>> result = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(1);
+        BiConsumer<Map<String, String>, Throwable> onComplete = (weatherByDate, error) -> {
+            if (error == null) {
+                result.complete(weatherByDate);
+            } else if (pending.decrementAndGet() == 0) {
+                result.completeExceptionally(error);
+            }
+        };
+        primary.whenComplete(onComplete);
+
+        CompletableFuture.delayedExecutor(properties.getHedgeDelay().toNanos(), TimeUnit.NANOSECONDS).execute(() -> {
+            if (!result.isDone()) {
+                pending.incrementAndGet();
+                hedgeCounter.increment();
+                CompletableFuture<Map<String, String>> hedge = fetchWeathers();
+                hedge.whenComplete(onComplete);
+                // 먼저 끝난 쪽이 결과를 정하면 아직 진행 중인 다른 쪽 요청은 중단한다. (이미 끝난 future 의 cancel 은 무시됨)
+                result.whenComplete((weatherByDate, error) -> hedge.cancel(true));
+            }
+        });
+        result.whenComplete((weatherByDate, error) -> primary.cancel(true));
+        return result;
+    }
+
+    private CompletableFuture<Map<String, String>> fetchWeathers() {
+        HttpRequest request = HttpRequest.newBuilder(weatherApiUri)
+                .timeout(properties.getRequestTimeout())
+                .header("Accept", "application/json")
+                .GET()
+                .build();
+
+        CompletableFuture<HttpResponse<byte[]>> exchange = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+        CompletableFuture<Map<String, String>> result = exchange
+                .thenApply(this::toWeatherByDate)
+                // 헤더 이후 본문 수신이 늦어지는 경우까지 제한
+                .orTimeout(properties.getRequestTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        // 취소(hedge 에서 진 쪽)나 타임아웃이면 HTTP 요청 자체를 중단한다.
+        // 뒤 단계의 취소가 sendAsync 의 future 까지 전파되는지는 HttpClient 구현에 달려 있으므로 직접 취소한다.
+        result.whenComplete((weatherByDate, error) -> {
+            if (error != null) {
+                exchange.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    private Map<String, String> toWeatherByDate(HttpResponse<byte[]> response) {
+        if (response.statusCode() != 200) {
+            throw new ServerException("날씨 데이터를 가져오는데 실패했습니다. 상태 코드: " + response.statusCode());
+        }
+
+        WeatherDto[] weatherArray;
+        try {
+            weatherArray = objectMapper.readValue(response.body(), WeatherDto[].class);
+        } catch (IOException e) {
+            throw new ServerException("날씨 데이터 형식이 올바르지 않습니다.");
+        }
+        if (weatherArray == null || weatherArray.length == 0) {
+            throw new ServerException("날씨 데이터가 없습니다.");
+        }
+
+        Map<String, String> weatherByDate = new HashMap<>();
+        for (WeatherDto weatherDto : weatherArray) {
+            weatherByDate.putIfAbsent(weatherDto.getDate(), weatherDto.getWeather());
+        }
+        return Map.copyOf(weatherByDate);
     }
 
     private URI buildWeatherApiUri() {
         return UriComponentsBuilder
-                .fromUriString("https://f-api.github.io")
-                .path("/f-api/weather.json")
+                .fromUriString(properties.getBaseUrl())
+                .path(properties.getPath())
                 .encode()
                 .build()
                 .toUri();
     }
 
-    private String getCurrentDate() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MM-dd");
-        return LocalDate.now().format(formatter);
+    private record CachedWeathers(Map<String, String> weatherByDate, long fetchedAtNanos) {
+
+        boolean isExpired(Duration ttl) {
+            return System.nanoTime() - fetchedAtNanos >= ttl.toNanos();
+        }
     }
 }
@@ -0,0 +1,26 @@
+package org.example.expert.client;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// 날씨 API 호출 설정 (weather.client.*)
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "weather.client")
+public class WeatherClientProperties {
+
+    private String baseUrl = "https://f-api.github.io";
+    private String path = "/f-api/weather.json";
+    private Duration connectTimeout = Duration.ofSeconds(1);
+    private Duration requestTimeout = Duration.ofSeconds(2);   // 응답 본문 수신까지 포함한 요청 1건의 최대 시간
+    private Duration hedgeDelay = Duration.ZERO;                // 이 시간 안에 응답이 없으면 같은 요청을 한 번 더 보낸다. (0 이면 사용 안 함)
+    private Duration cacheTtl = Duration.ofHours(1);            // 날씨 데이터 재사용 시간
+    private int failureThreshold = 5;                           // 연속 실패 시 서킷 오픈
+    private Duration openDuration = Duration.ofSeconds(30);     // 서킷 오픈 유지 시간 (이후 한 건만 시도)
+    private String defaultWeather;                              // 오늘 날씨를 구하지 못했을 때 사용할 값 (없으면 예외)
+}
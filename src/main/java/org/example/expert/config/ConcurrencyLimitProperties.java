@@ -0,0 +1,37 @@
+package org.example.expert.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 서비스 계층 동시 실행 수 제한 설정 (concurrency-limit.*)
+ * @ConcurrencyLimited 의 이름별로 한도를 따로 관리한다. 설정이 없는 이름은 기본값을 사용한다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "concurrency-limit")
+public class ConcurrencyLimitProperties {
+
+    private boolean enabled = true;
+    private Map<String, Limiter> limiters = new HashMap<>();
+
+    public Limiter getLimiter(String name) {
+        return limiters.getOrDefault(name, new Limiter());
+    }
+
+    @Getter
+    @Setter
+    public static class Limiter {
+        private int initialLimit = 20;
+        private int minLimit = 4;
+        private int maxLimit = 200;
+        private double tolerance = 2.0;  // 기준 지연의 몇 배까지 한도를 줄이지 않을지
+        private double smoothing = 0.2;  // 새 한도 반영 비율
+    }
+}
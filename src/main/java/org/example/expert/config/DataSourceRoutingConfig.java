@@ -0,0 +1,69 @@
+package org.example.expert.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기/쓰기 DataSource 분리 설정 (datasource.routing.enabled=true 일 때만 적용)
+ * - 쓰기 트랜잭션, 트랜잭션 밖의 쿼리 : primary (spring.datasource.*)
+ * - @Transactional(readOnly = true) : replica (datasource.replica.*), 레플리카가 비정상이면 primary
+ * 비활성화 시에는 기존처럼 Spring Boot 가 spring.datasource.* 로 단일 DataSource 를 구성한다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    // datasource.replica.* 는 HikariConfig 프로퍼티(jdbc-url, username, maximum-pool-size ...)에 그대로 바인딩된다.
+    @Bean
+    @ConfigurationProperties("datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        HikariDataSource replica = new HikariDataSource();
+        replica.setPoolName("replica-pool");
+        replica.setReadOnly(true);
+        return replica;
+    }
+
+    @Bean
+    public ReplicaHealthChecker replicaHealthChecker(
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            @Value("${datasource.routing.lag-query:}") String lagQuery,
+            @Value("${datasource.routing.max-lag-seconds:5}") long maxLagSeconds,
+            MeterRegistry meterRegistry
+    ) {
+        return new ReplicaHealthChecker(replicaDataSource, lagQuery, maxLagSeconds, meterRegistry);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") DataSource replicaDataSource,
+            ReplicaHealthChecker replicaHealthChecker
+    ) {
+        ReplicationRoutingDataSource routingDataSource =
+                new ReplicationRoutingDataSource(primaryDataSource, replicaDataSource, replicaHealthChecker);
+        routingDataSource.afterPropertiesSet();
+
+        // 실제 커넥션 획득을 첫 쿼리 시점까지 미뤄서 readOnly 플래그가 반영된 뒤에 라우팅되도록 한다.
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.expert.config;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GCRA(Generic Cell Rate Algorithm) 방식의 토큰 버킷.
+ * 사용자마다 "이론상 다음 도착 시각(TAT)" 하나만 AtomicLong 으로 보관하고 CAS 로 갱신하므로 락이 없고,
+ * 토큰 수와 마지막 보충 시각을 따로 관리하지 않아도 된다.
+ */
+public class GcraRateLimiter {
+
+    private final long emissionIntervalNanos; // 토큰 하나가 보충되는 간격
+    private final long burstNanos;            // capacity 만큼의 토큰에 해당하는 시간
+    private final ConcurrentHashMap<Long, AtomicLong> theoreticalArrivalTimes = new ConcurrentHashMap<>();
+
+    public GcraRateLimiter(int capacity, double ratePerSecond) {
+        if (capacity < 1 || ratePerSecond <= 0) {
+            throw new IllegalArgumentException("capacity 와 ratePerSecond 는 0보다 커야 합니다.");
+        }
+        this.emissionIntervalNanos = (long) (1_000_000_000L / ratePerSecond);
+        this.burstNanos = emissionIntervalNanos * capacity;
+    }
+
+    /**
+     * @return 0 이면 허용, 양수이면 다음 요청이 허용될 때까지 기다려야 하는 시간(ns)
+     */
+    public long tryAcquire(Long key, long nowNanos) {
+        AtomicLong tat = theoreticalArrivalTimes.get(key);
+        if (tat == null) {
+            tat = theoreticalArrivalTimes.computeIfAbsent(key, k -> new AtomicLong(nowNanos));
+        }
+
+        while (true) {
+            long current = tat.get();
+            long newTat = Math.max(current, nowNanos) + emissionIntervalNanos;
+            long allowAt = newTat - burstNanos;
+            if (nowNanos < allowAt) {
+                return allowAt - nowNanos;
+            }
+            if (tat.compareAndSet(current, newTat)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * TAT 가 idle 시간보다 더 과거인 버킷은 이미 가득 찬 상태와 같으므로 제거해도 동작이 바뀌지 않는다.
+     * (제거와 동시에 들어온 요청은 새 버킷을 받게 되어 최대 1회 더 허용될 수 있다.)
+     * @return 제거된 버킷 수
+     */
+    public int evictIdle(long nowNanos, long idleNanos) {
+        int before = theoreticalArrivalTimes.size();
+        theoreticalArrivalTimes.values().removeIf(tat -> nowNanos - tat.get() > idleNanos);
+        return before - theoreticalArrivalTimes.size();
+    }
+
+    public int size() {
+        return theoreticalArrivalTimes.size();
+    }
+}
@@ -0,0 +1,108 @@
+package org.example.expert.config;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 지연 시간 기울기(gradient) 기반 동시 실행 수 제한 (Netflix concurrency-limits 의 Gradient2 를 단순화)
+ * - 짧은 구간 지연(최근 샘플 EWMA)과 긴 구간 기준 지연(느린 EWMA)을 비교해서
+ *   gradient = clamp(tolerance * 기준 / 최근, 0.5, 1.0) 를 구하고 newLimit = limit * gradient + sqrt(limit) 로 한도를 조정한다.
+ * - DB 가 느려져 최근 지연이 기준의 tolerance 배를 넘으면 한도가 줄고, 지연이 기준 근처면 sqrt(limit) 만큼씩 늘어난다.
+ * - 실행 중인 요청이 한도의 절반도 안 되면 지연이 한도를 반영하지 않으므로 한도를 늘리지 않는다.
+ * - 한도를 넘는 요청은 기다리지 않고 바로 거절한다. (커넥션 풀 앞에 줄을 세우지 않음)
+ */
+public class GradientConcurrencyLimiter {
+
+    private static final double SHORT_ALPHA = 2.0 / (10 + 1);  // 최근 10개 샘플 정도
+    private static final double LONG_ALPHA = 2.0 / (600 + 1);  // 최근 600개 샘플 정도
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double DROP_DECREASE = 0.9;          // DB 예외(타임아웃 등) 시 한도 감소 비율
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+    private double shortRttNanos; // this 로 동기화
+    private double longRttNanos;
+
+    public GradientConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double tolerance, double smoothing) {
+        if (minLimit < 1 || minLimit > maxLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("1 <= minLimit <= initialLimit <= maxLimit 이어야 합니다.");
+        }
+        if (tolerance < 1 || smoothing <= 0 || smoothing > 1) {
+            throw new IllegalArgumentException("tolerance 는 1 이상, smoothing 은 (0, 1] 이어야 합니다.");
+        }
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+    }
+
+    /**
+     * @return 실행 가능하면 true (끝나면 반드시 onSample / onDropped 중 하나를 호출), 한도 초과면 false
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    // 정상 완료 (비즈니스 예외 포함) - 실행 시간으로 한도를 조정
+    public void onSample(long rttNanos) {
+        int inFlightAtCompletion = inFlight.getAndDecrement();
+        update(Math.max(1, rttNanos), inFlightAtCompletion);
+    }
+
+    // DB 과부하로 보이는 실패 (커넥션 획득 타임아웃 등) - 지연과 무관하게 한도를 줄인다.
+    public void onDropped() {
+        inFlight.decrementAndGet();
+        synchronized (this) {
+            limit = Math.max(minLimit, limit * DROP_DECREASE);
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public synchronized double getBaselineRttNanos() {
+        return longRttNanos;
+    }
+
+    private synchronized void update(double rttNanos, int inFlightAtCompletion) {
+        if (longRttNanos == 0) {
+            shortRttNanos = rttNanos;
+            longRttNanos = rttNanos;
+        } else {
+            shortRttNanos += SHORT_ALPHA * (rttNanos - shortRttNanos);
+            longRttNanos += LONG_ALPHA * (shortRttNanos - longRttNanos);
+        }
+
+        // 지연이 크게 줄어든 경우(ex. DB 복구) 기준이 천천히 따라오는 동안 한도가 묶이지 않도록 기준을 빠르게 낮춘다.
+        if (longRttNanos / shortRttNanos > 2) {
+            longRttNanos *= 0.95;
+        }
+
+        if (inFlightAtCompletion < limit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * longRttNanos / shortRttNanos));
+        double newLimit = limit * gradient + Math.sqrt(limit);
+        newLimit = limit * (1 - smoothing) + newLimit * smoothing;
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+}
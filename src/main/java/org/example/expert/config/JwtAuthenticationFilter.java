@@ -12,6 +12,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.monitoring.timing.RequestTiming;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -36,12 +37,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String url = request.getRequestURI();
 
-        // 인증 불필요 경로 : error 메시지 이거나 /auth 경로로 시작하거나
-        if (url.startsWith("/auth") || url.startsWith("/error")) {
+        // 인증 불필요 경로 : error 메시지 이거나 /auth 경로로 시작하거나 헬스 체크이거나
+        if (url.startsWith("/auth") || url.startsWith("/error") || url.startsWith("/actuator/health")) {
             filterChain.doFilter(request, response);
             return;
         }
 
+        long jwtStart = System.nanoTime();
         String bearerJwt = request.getHeader("Authorization");
 
         if (bearerJwt == null) {
@@ -74,6 +76,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             // SecurityContext에 인증 정보 저장
             SecurityContextHolder.getContext().setAuthentication(authentication);
+            RequestTiming.record(RequestTiming.Phase.JWT, System.nanoTime() - jwtStart);
 
             filterChain.doFilter(request, response);
         } catch (SecurityException | MalformedJwtException e) {
@@ -0,0 +1,132 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter 다음에 실행되어, 인증된 사용자(AuthUser id) 기준으로 엔드포인트 그룹별 요청 수를 제한한다.
+ * 제한을 넘은 요청은 429 와 Retry-After(초) 로 응답한다.
+ */
+@Slf4j
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final boolean enabled;
+    private final long idleTimeoutNanos;
+    private final List<LimitedGroup> groups;
+    private final MeterRegistry meterRegistry;
+
+    public RateLimitFilter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.idleTimeoutNanos = properties.getIdleTimeout().toNanos();
+        this.meterRegistry = meterRegistry;
+        this.groups = properties.getGroups().stream()
+                .map(LimitedGroup::from)
+                .toList();
+
+        for (LimitedGroup group : groups) {
+            Gauge.builder("http.rate_limit.buckets", group.limiter(), GcraRateLimiter::size)
+                    .tag("group", group.name())
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (!enabled || authentication == null || !(authentication.getPrincipal() instanceof AuthUser authUser)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        LimitedGroup group = findGroup(request);
+        if (group == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long waitNanos = group.limiter().tryAcquire(authUser.getId(), System.nanoTime());
+        if (waitNanos > 0) {
+            meterRegistry.counter("http.rate_limited", "group", group.name()).increment();
+            sendTooManyRequests(response, waitNanos);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    @Scheduled(fixedDelayString = "${rate-limit.sweep-interval:60000}")
+    public void evictIdleBuckets() {
+        long now = System.nanoTime();
+        for (LimitedGroup group : groups) {
+            int evicted = group.limiter().evictIdle(now, idleTimeoutNanos);
+            if (evicted > 0) {
+                log.debug("rate limit 버킷 정리 - group: {}, evicted: {}, remaining: {}", group.name(), evicted, group.limiter().size());
+            }
+        }
+    }
+
+    private LimitedGroup findGroup(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        for (LimitedGroup group : groups) {
+            if (group.matches(request.getMethod(), path)) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    private void sendTooManyRequests(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(String.format(
+                "{\"status\": \"%s\", \"code\": %d, \"message\": \"요청이 너무 많습니다. %d초 후에 다시 시도해주세요.\"}",
+                HttpStatus.TOO_MANY_REQUESTS.name(), HttpStatus.TOO_MANY_REQUESTS.value(), retryAfterSeconds
+        ));
+    }
+
+    private record LimitedGroup(String name, List<PathPattern> patterns, List<String> methods, GcraRateLimiter limiter) {
+
+        static LimitedGroup from(RateLimitProperties.Group group) {
+            return new LimitedGroup(
+                    group.getName(),
+                    group.getPatterns().stream().map(PathPatternParser.defaultInstance::parse).toList(),
+                    group.getMethods().stream().map(String::toUpperCase).toList(),
+                    new GcraRateLimiter(group.getCapacity(), group.getRatePerSecond())
+            );
+        }
+
+        boolean matches(String method, PathContainer path) {
+            if (!methods.isEmpty() && !methods.contains(method)) {
+                return false;
+            }
+            return patterns.stream().anyMatch(pattern -> pattern.matches(path));
+        }
+    }
+}
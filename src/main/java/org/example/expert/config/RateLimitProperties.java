@@ -0,0 +1,35 @@
+package org.example.expert.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 사용자별 요청 제한 설정 (rate-limit.*)
+ * 요청은 위에서부터 처음 일치하는 그룹 하나의 제한만 적용받는다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    private Duration idleTimeout = Duration.ofMinutes(10); // 이 시간 동안 요청이 없으면 버킷 제거
+    private List<Group> groups = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Group {
+        private String name;
+        private List<String> patterns = List.of("/**");
+        private List<String> methods = List.of();  // 비어 있으면 모든 HTTP 메서드
+        private int capacity;                      // 순간적으로 허용하는 최대 요청 수 (버스트)
+        private double ratePerSecond;              // 초당 보충되는 요청 수
+    }
+}
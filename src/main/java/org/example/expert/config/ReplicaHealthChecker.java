@@ -0,0 +1,103 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 레플리카의 연결 가능 여부와 복제 지연을 주기적으로 확인한다.
+ * 확인에 실패하거나 지연이 maxLagSeconds 를 넘으면 읽기 전용 트랜잭션도 primary 로 라우팅된다.
+ */
+@Slf4j
+public class ReplicaHealthChecker {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+    // MySQL SHOW REPLICA STATUS (8.0.22+) / SHOW SLAVE STATUS 의 지연 컬럼
+    private static final String[] LAG_COLUMNS = {"Seconds_Behind_Source", "Seconds_Behind_Master"};
+
+    private final DataSource replica;
+    private final String lagQuery;
+    private final long maxLagSeconds;
+
+    // 첫 확인 전까지는 primary 사용
+    private volatile boolean available = false;
+
+    /**
+     * @param lagQuery 지연(초)을 반환하는 쿼리. 비어있으면 연결 확인만 한다.
+     */
+    public ReplicaHealthChecker(DataSource replica, String lagQuery, long maxLagSeconds, MeterRegistry meterRegistry) {
+        this.replica = replica;
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLagSeconds;
+
+        Gauge.builder("datasource.replica.available", this, checker -> checker.isAvailable() ? 1 : 0)
+                .description("레플리카로 읽기 트래픽을 보내는 중이면 1")
+                .register(meterRegistry);
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.routing.health-check-interval:5000}")
+    public void check() {
+        boolean healthy;
+        try (Connection connection = replica.getConnection()) {
+            healthy = connection.isValid(VALIDATION_TIMEOUT_SECONDS) && isLagAcceptable(connection);
+        } catch (SQLException e) {
+            log.warn("Replica health check failed, 레플리카 연결에 실패했습니다. : {}", e.getMessage());
+            healthy = false;
+        }
+
+        if (healthy != available) {
+            log.info("Replica routing {}, 레플리카 라우팅 상태가 변경되었습니다.", healthy ? "enabled" : "disabled");
+        }
+        available = healthy;
+    }
+
+    private boolean isLagAcceptable(Connection connection) throws SQLException {
+        if (lagQuery == null || lagQuery.isBlank()) {
+            return true;
+        }
+
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            // 결과가 없으면 복제가 설정되지 않은 것 -> 레플리카로 보지 않는다.
+            if (!resultSet.next()) {
+                return false;
+            }
+
+            long lagSeconds = resultSet.getLong(lagColumnIndex(resultSet.getMetaData()));
+            // NULL 이면 복제 스레드가 멈춘 상태
+            if (resultSet.wasNull()) {
+                return false;
+            }
+
+            if (lagSeconds > maxLagSeconds) {
+                log.warn("Replica lag {}s exceeds {}s, 레플리카 지연이 허용치를 넘었습니다.", lagSeconds, maxLagSeconds);
+                return false;
+            }
+            return true;
+        }
+    }
+
+    private int lagColumnIndex(ResultSetMetaData metaData) throws SQLException {
+        for (int i = 1; i <= metaData.getColumnCount(); i++) {
+            for (String lagColumn : LAG_COLUMNS) {
+                if (lagColumn.equalsIgnoreCase(metaData.getColumnLabel(i))) {
+                    return i;
+                }
+            }
+        }
+        // 사용자 정의 쿼리는 첫 번째 컬럼을 지연(초)으로 사용
+        return 1;
+    }
+}
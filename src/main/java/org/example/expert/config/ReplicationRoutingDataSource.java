@@ -0,0 +1,41 @@
+package org.example.expert.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * 트랜잭션의 readOnly 여부로 primary / replica 를 선택하는 DataSource.
+ * 트랜잭션 시작(doBegin) 시점에는 readOnly 플래그가 아직 동기화되지 않으므로
+ * 반드시 LazyConnectionDataSourceProxy 로 감싸서 첫 쿼리 실행 시점에 커넥션을 결정해야 한다.
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum DataSourceType {
+        PRIMARY, REPLICA
+    }
+
+    private final ReplicaHealthChecker replicaHealthChecker;
+
+    public ReplicationRoutingDataSource(DataSource primary, DataSource replica, ReplicaHealthChecker replicaHealthChecker) {
+        this.replicaHealthChecker = replicaHealthChecker;
+        setTargetDataSources(Map.of(
+                DataSourceType.PRIMARY, primary,
+                DataSourceType.REPLICA, replica
+        ));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+
+        // 읽기 전용 트랜잭션이라도 레플리카가 비정상이거나 지연이 크면 primary 로 보낸다.
+        if (readOnly && replicaHealthChecker.isAvailable()) {
+            return DataSourceType.REPLICA;
+        }
+        return DataSourceType.PRIMARY;
+    }
+}
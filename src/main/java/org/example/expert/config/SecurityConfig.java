@@ -1,5 +1,6 @@
 package org.example.expert.config;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -22,6 +23,7 @@ import org.springframework.security.web.servletapi.SecurityContextHolderAwareReq
 public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final RateLimitFilter rateLimitFilter;
 
     @Bean
     public PasswordEncoder passwordEncoder() {
@@ -41,11 +43,17 @@ public class SecurityConfig {
                 )
                 // JWT 필터 추가
                 .addFilterBefore(jwtAuthenticationFilter, SecurityContextHolderAwareRequestFilter.class)
+                // 사용자별 요청 제한 (인증된 사용자 id 기준)
+                .addFilterAfter(rateLimitFilter, JwtAuthenticationFilter.class)
                 // 요청 권한 설정
                 .authorizeHttpRequests(auth -> auth
+                        // 스트리밍 응답(export) 완료 시의 ASYNC 디스패치 - 최초 요청에서 이미 인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/auth/**").permitAll() // 인증 API는 모두 허용
                         .requestMatchers("/error/**").permitAll() // security로 인한 정확한 예외 처리를 위함.
+                        .requestMatchers("/actuator/health/**").permitAll() // 헬스 체크(프로브)는 인증 없이 허용
                         .requestMatchers("/admin/**").hasRole("ADMIN")  // admin은 ADMIN 권한 필요
+                        .requestMatchers("/actuator/**").hasRole("ADMIN") // metrics 등 운영 정보는 ADMIN만
                         .anyRequest().authenticated()  // 나머지는 인증 필요
                 )
                 .build();
@@ -5,11 +5,14 @@ import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
+import org.example.expert.domain.comment.dto.response.CommentSummaryResponse;
 import org.example.expert.domain.comment.service.CommentService;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.web.ConditionalGetHandler;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -18,6 +21,7 @@ import java.util.List;
 public class CommentController {
 
     private final CommentService commentService;
+    private final ConditionalGetHandler conditionalGetHandler;
 
     @PostMapping("/todos/{todoId}/comments")
     public ResponseEntity<CommentSaveResponse> saveComment(
@@ -29,7 +33,14 @@ public class CommentController {
     }
 
     @GetMapping("/todos/{todoId}/comments")
-    public ResponseEntity<List<CommentResponse>> getComments(@PathVariable long todoId) {
-        return ResponseEntity.ok(commentService.getComments(todoId));
+    public ResponseEntity<List<CommentSummaryResponse>> getComments(@PathVariable long todoId, WebRequest webRequest) {
+        return conditionalGetHandler.handle(webRequest, "comments", todoId,
+                commentService.getCommentsVersion(todoId),
+                () -> commentService.getComments(todoId));
+    }
+
+    @GetMapping("/todos/{todoId}/comments/{commentId}")
+    public ResponseEntity<CommentResponse> getComment(@PathVariable long todoId, @PathVariable long commentId) {
+        return ResponseEntity.ok(commentService.getComment(todoId, commentId));
     }
 }
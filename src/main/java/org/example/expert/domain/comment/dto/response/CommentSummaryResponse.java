@@ -0,0 +1,25 @@
+package org.example.expert.domain.comment.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.user.dto.response.UserResponse;
+
+/**
+ * 댓글 목록용 응답 - 본문 앞부분 미리보기만 내려준다. (전체 본문은 GET /todos/{todoId}/comments/{commentId})
+ */
+@Getter
+public class CommentSummaryResponse {
+
+    public static final int PREVIEW_LENGTH = 100;
+
+    private final Long id;
+    private final String contentsPreview;
+    private final boolean contentsTruncated; // true 면 본문이 미리보기보다 길다
+    private final UserResponse user;
+
+    public CommentSummaryResponse(Long id, String contentsPreview, boolean contentsTruncated, Long userId, String userEmail) {
+        this.id = id;
+        this.contentsPreview = contentsPreview;
+        this.contentsTruncated = contentsTruncated;
+        this.user = new UserResponse(userId, userEmail);
+    }
+}
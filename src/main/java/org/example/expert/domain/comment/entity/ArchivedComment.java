@@ -0,0 +1,37 @@
+package org.example.expert.domain.comment.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.expert.domain.todo.entity.ArchivedTodo;
+import org.example.expert.domain.user.entity.User;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보관된 일정의 댓글 (읽기 전용, ArchivedTodo 참고)
+ */
+@Getter
+@Entity
+@Immutable
+@NoArgsConstructor
+@Table(name = "comments_archive")
+public class ArchivedComment {
+
+    @Id
+    private Long id;
+    @Basic(fetch = FetchType.LAZY)
+    private String contents;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "todo_id", nullable = false)
+    private ArchivedTodo todo;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime modifiedAt;
+}
@@ -15,6 +15,8 @@ public class Comment extends Timestamped {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
+    // 본문은 클 수 있어 목록/연관 로딩에서는 제외하고, 접근할 때 별도 SELECT 로 로딩 (바이트코드 향상 필요)
+    @Basic(fetch = FetchType.LAZY)
     private String contents;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,15 +1,33 @@
 package org.example.expert.domain.comment.repository;
 
+import org.example.expert.domain.comment.dto.response.CommentResponse;
+import org.example.expert.domain.comment.dto.response.CommentSummaryResponse;
 import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.common.dto.ListVersion;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    // FETCH JOIN 으로 N + 1 문제 해결
-    @Query("SELECT c FROM Comment c JOIN FETCH c.user WHERE c.todo.id = :todoId")
-    List<Comment> findByTodoIdWithUser(@Param("todoId") Long todoId);
+    // 목록은 본문 미리보기 + 작성자만 조회 (JOIN 으로 N + 1 없이, 엔티티 로딩 없이)
+    @Query("SELECT new org.example.expert.domain.comment.dto.response.CommentSummaryResponse(" +
+            "c.id, SUBSTRING(c.contents, 1, " + CommentSummaryResponse.PREVIEW_LENGTH + "), " +
+            "CASE WHEN LENGTH(c.contents) > " + CommentSummaryResponse.PREVIEW_LENGTH + " THEN true ELSE false END, " +
+            "u.id, u.email) " +
+            "FROM Comment c JOIN c.user u WHERE c.todo.id = :todoId")
+    List<CommentSummaryResponse> findSummariesByTodoId(@Param("todoId") Long todoId);
+
+    // 상세 조회 - 본문 + 작성자를 DTO 로 바로 조회
+    @Query("SELECT new org.example.expert.domain.comment.dto.response.CommentResponse(c.id, c.contents, u.id, u.email) " +
+            "FROM Comment c JOIN c.user u WHERE c.id = :commentId AND c.todo.id = :todoId")
+    Optional<CommentResponse> findResponseByIdAndTodoId(@Param("commentId") Long commentId, @Param("todoId") Long todoId);
+
+    // ETag 용 목록 버전 조회 (건수 + 최근 수정일)
+    @Query("SELECT new org.example.expert.domain.common.dto.ListVersion(COUNT(c), MAX(c.modifiedAt)) " +
+            "FROM Comment c WHERE c.todo.id = :todoId")
+    ListVersion findListVersionByTodoId(@Param("todoId") Long todoId);
 }
@@ -4,18 +4,24 @@ import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.comment.dto.request.CommentSaveRequest;
 import org.example.expert.domain.comment.dto.response.CommentResponse;
 import org.example.expert.domain.comment.dto.response.CommentSaveResponse;
+import org.example.expert.domain.comment.dto.response.CommentSummaryResponse;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.comment.repository.CommentRepository;
+import org.example.expert.domain.common.annotation.ConcurrencyLimited;
+import org.example.expert.domain.common.annotation.SingleFlight;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.cache.TodosChangedEvent;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.todo.service.TodoDailyStatService;
+import org.example.expert.domain.todo.trending.TodoCommentedEvent;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -24,11 +30,15 @@ public class CommentService {
 
     private final TodoRepository todoRepository;
     private final CommentRepository commentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TodoDailyStatService todoDailyStatService;
 
     @Transactional
+    @ConcurrencyLimited("write")
     public CommentSaveResponse saveComment(AuthUser authUser, long todoId, CommentSaveRequest commentSaveRequest) {
         User user = User.fromAuthUser(authUser);
-        Todo todo = todoRepository.findById(todoId).orElseThrow(() ->
+        // 날씨 반영(TodoWeatherEnrichmentService)이 집계를 옮기는 중이면 끝날 때까지 기다렸다가 반영된 날씨로 집계한다.
+        Todo todo = todoRepository.findByIdForShare(todoId).orElseThrow(() ->
                 new InvalidRequestException("Todo not found"));
 
         Comment newComment = new Comment(
@@ -38,6 +48,10 @@ public class CommentService {
         );
 
         Comment savedComment = commentRepository.save(newComment);
+        // 댓글 수는 일정의 (작성일, 날씨) 에 집계
+        todoDailyStatService.increment(todo.getCreatedAt(), todo.getWeather(), 0, 1);
+        eventPublisher.publishEvent(new TodosChangedEvent()); // 검색 결과의 댓글 수 변경
+        eventPublisher.publishEvent(new TodoCommentedEvent(todoId)); // 인기 일정 집계
 
         return new CommentSaveResponse(
                 savedComment.getId(),
@@ -47,19 +61,21 @@ public class CommentService {
     }
 
     @Transactional(readOnly = true)
-    public List<CommentResponse> getComments(long todoId) {
-        List<Comment> commentList = commentRepository.findByTodoIdWithUser(todoId);
+    @SingleFlight("comments")
+    public List<CommentSummaryResponse> getComments(long todoId) {
+        return commentRepository.findSummariesByTodoId(todoId);
+    }
 
-        List<CommentResponse> dtoList = new ArrayList<>();
-        for (Comment comment : commentList) {
-            User user = comment.getUser();
-            CommentResponse dto = new CommentResponse(
-                    comment.getId(),
-                    comment.getContents(),
-                    new UserResponse(user.getId(), user.getEmail())
-            );
-            dtoList.add(dto);
-        }
-        return dtoList;
+    @Transactional(readOnly = true)
+    public CommentResponse getComment(long todoId, long commentId) {
+        return commentRepository.findResponseByIdAndTodoId(commentId, todoId)
+                .orElseThrow(() -> new InvalidRequestException("Comment not found"));
+    }
+
+    // ETag 용 목록 버전 (댓글이 없으면 null)
+    @Transactional(readOnly = true)
+    @SingleFlight("comments.version")
+    public String getCommentsVersion(long todoId) {
+        return commentRepository.findListVersionByTodoId(todoId).toVersion();
     }
 }
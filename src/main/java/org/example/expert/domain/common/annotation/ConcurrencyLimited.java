@@ -0,0 +1,18 @@
+package org.example.expert.domain.common.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * DB 를 사용하는 서비스 메서드의 동시 실행 수를 지연 시간에 따라 조절되는 한도로 제한한다. (ConcurrencyLimitAspect)
+ * 같은 이름의 메서드는 한도 하나를 공유하며, 한도를 넘는 호출은 기다리지 않고 503 으로 거절된다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConcurrencyLimited {
+
+    // 한도 이름 (concurrency-limit.limiters.<name>, 메트릭 태그 name)
+    String value();
+}
@@ -0,0 +1,19 @@
+package org.example.expert.domain.common.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 같은 인자로 동시에 들어온 호출을 하나로 합친다. (SingleFlightAspect)
+ * 먼저 들어온 호출만 실제로 실행되고, 실행 중에 들어온 호출은 그 결과(또는 예외)를 함께 받는다.
+ * 결과 객체를 여러 요청이 공유하므로 읽기 전용 조회(불변 DTO 반환)에만 사용한다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SingleFlight {
+
+    // 메트릭 태그 (singleflight.calls{name=...})
+    String value();
+}
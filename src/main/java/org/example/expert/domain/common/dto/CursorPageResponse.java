@@ -0,0 +1,34 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * keyset(커서) 페이지 응답.
+ * offset 이나 전체 건수 없이 마지막 항목의 정렬 키를 nextCursor 로 넘겨서 다음 페이지를 이어서 조회한다.
+ */
+@Getter
+public class CursorPageResponse<T> {
+
+    private final List<T> content;
+    private final boolean hasNext;
+    private final String nextCursor;  // 다음 페이지 요청 시 cursor 로 전달 (마지막 페이지면 null)
+
+    private CursorPageResponse(List<T> content, boolean hasNext, String nextCursor) {
+        this.content = content;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * @param rows size + 1 건을 조회한 결과 (초과분이 있으면 다음 페이지가 있다)
+     */
+    public static <T> CursorPageResponse<T> of(List<T> rows, int size, Function<T, String> cursorExtractor) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorExtractor.apply(content.get(content.size() - 1)) : null;
+        return new CursorPageResponse<>(content, hasNext, nextCursor);
+    }
+}
@@ -0,0 +1,35 @@
+package org.example.expert.domain.common.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록 리소스의 가벼운 버전 정보 (건수 + 마지막 변경 지표).
+ * 목록 전체를 조회하지 않고 집계 쿼리 한 번으로 ETag 를 만들기 위해 사용한다.
+ */
+@Getter
+public class ListVersion {
+
+    private final long count;
+    private final String lastChange;
+
+    // 수정일(modifiedAt)이 있는 엔티티 : 건수 + 최근 수정일
+    public ListVersion(Long count, LocalDateTime lastModifiedAt) {
+        this.count = count == null ? 0 : count;
+        this.lastChange = String.valueOf(lastModifiedAt);
+    }
+
+    // 수정일이 없는 엔티티 : 건수 + 최대 id (추가/삭제 모두 둘 중 하나는 반드시 바뀐다)
+    public ListVersion(Long count, Long lastId) {
+        this.count = count == null ? 0 : count;
+        this.lastChange = String.valueOf(lastId);
+    }
+
+    /**
+     * @return 비어있는 목록이면 null (조회 비용이 작고 존재하지 않는 일정과 구분할 수 없으므로 조건부 처리하지 않는다)
+     */
+    public String toVersion() {
+        return count == 0 ? null : count + "-" + lastChange;
+    }
+}
@@ -0,0 +1,8 @@
+package org.example.expert.domain.common.exception;
+
+public class ServiceOverloadedException extends RuntimeException {
+
+    public ServiceOverloadedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.expert.domain.common.web;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.function.Supplier;
+
+/**
+ * ETag / If-None-Match 기반 조건부 GET 처리.
+ * 본문 전체를 조회/직렬화해서 해시를 만드는 ShallowEtagHeaderFilter 대신,
+ * 가벼운 버전 조회(modifiedAt, count 등)만으로 ETag를 만들어 변경이 없으면 본문 조회 자체를 생략한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalGetHandler {
+
+    private static final String METRIC_NAME = "http.conditional.requests";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * @param resource     메트릭 태그 및 ETag 접두어로 사용할 리소스 이름 (todo, user, comments, managers)
+     * @param key          리소스 식별자 (todoId, userId 등)
+     * @param version      가벼운 버전 값. null 이면 리소스가 없거나 버전을 알 수 없으므로 조건부 처리 없이 본문을 조회한다.
+     * @param bodySupplier 변경된 경우에만 호출되는 본문 조회
+     * @return 변경이 없으면 null (checkNotModified 가 이미 304 응답을 작성함)
+     */
+    public <T> ResponseEntity<T> handle(WebRequest webRequest, String resource, Object key, String version, Supplier<T> bodySupplier) {
+        if (version == null) {
+            return ResponseEntity.ok(bodySupplier.get());
+        }
+
+        // 직렬화 결과가 아닌 버전 기준의 ETag 이므로 약한(weak) ETag 사용
+        String etag = "W/\"" + resource + "-" + key + "-" + version + "\"";
+
+        // checkNotModified 는 응답에 ETag 헤더를 직접 설정하고, 일치하면 상태 코드를 304로 바꾼다.
+        if (webRequest.checkNotModified(etag)) {
+            record(resource, "not_modified");
+            // ResponseEntity 를 다시 반환하면 헤더가 중복되므로 null 반환 (Spring 권장 방식)
+            return null;
+        }
+
+        record(resource, "modified");
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache()) // 캐시는 하되 매번 재검증
+                .body(bodySupplier.get());
+    }
+
+    private void record(String resource, String result) {
+        meterRegistry.counter(METRIC_NAME, "resource", resource, "result", result).increment();
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.expert.domain.manager.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.expert.domain.todo.entity.ArchivedTodo;
+import org.example.expert.domain.user.entity.User;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * 보관된 일정의 담당자 (읽기 전용, ArchivedTodo 참고)
+ */
+@Getter
+@Entity
+@Immutable
+@NoArgsConstructor
+@Table(name = "managers_archive")
+public class ArchivedManager {
+
+    @Id
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "todo_id", nullable = false)
+    private ArchivedTodo todo;
+}
@@ -9,7 +9,10 @@ import org.example.expert.domain.user.entity.User;
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "managers")
+@Table(name = "managers", indexes = {
+        // 내가 담당자인 일정 keyset 페이지 (/users/me/assigned-todos) - 인덱스만으로 todo_id 범위 조회
+        @Index(name = "idx_managers_user_todo", columnList = "user_id, todo_id")
+})
 public class Manager {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -1,5 +1,7 @@
 package org.example.expert.domain.manager.repository;
 
+import org.example.expert.domain.common.dto.ListVersion;
+import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.entity.Manager;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -8,6 +10,13 @@ import org.springframework.data.repository.query.Param;
 import java.util.List;
 
 public interface ManagerRepository extends JpaRepository<Manager, Long> {
-    @Query("SELECT m FROM Manager m JOIN FETCH m.user WHERE m.todo.id = :todoId")
-    List<Manager> findByTodoIdWithUser(@Param("todoId") Long todoId);
+    // 담당자 목록 - 엔티티 대신 DTO 로 바로 조회
+    @Query("SELECT new org.example.expert.domain.manager.dto.response.ManagerResponse(m.id, u.id, u.email) " +
+            "FROM Manager m JOIN m.user u WHERE m.todo.id = :todoId")
+    List<ManagerResponse> findResponsesByTodoId(@Param("todoId") Long todoId);
+
+    // ETag 용 목록 버전 조회 (Manager는 수정일이 없으므로 건수 + 최대 id)
+    @Query("SELECT new org.example.expert.domain.common.dto.ListVersion(COUNT(m), MAX(m.id)) " +
+            "FROM Manager m WHERE m.todo.id = :todoId")
+    ListVersion findListVersionByTodoId(@Param("todoId") Long todoId);
 }
@@ -1,6 +1,8 @@
 package org.example.expert.domain.manager.service;
 
 import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.annotation.ConcurrencyLimited;
+import org.example.expert.domain.common.annotation.SingleFlight;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.manager.dto.request.ManagerSaveRequest;
@@ -8,16 +10,17 @@ import org.example.expert.domain.manager.dto.response.ManagerResponse;
 import org.example.expert.domain.manager.dto.response.ManagerSaveResponse;
 import org.example.expert.domain.manager.entity.Manager;
 import org.example.expert.domain.manager.repository.ManagerRepository;
+import org.example.expert.domain.todo.cache.TodosChangedEvent;
 import org.example.expert.domain.todo.entity.Todo;
 import org.example.expert.domain.todo.repository.TodoRepository;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
 import org.example.expert.domain.user.repository.UserRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ObjectUtils;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -28,8 +31,10 @@ public class ManagerService {
     private final ManagerRepository managerRepository;
     private final UserRepository userRepository;
     private final TodoRepository todoRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
+    @ConcurrencyLimited("write")
     public ManagerSaveResponse saveManager(AuthUser authUser, long todoId, ManagerSaveRequest managerSaveRequest) {
         // 일정을 만든 유저
         User user = User.fromAuthUser(authUser);
@@ -49,6 +54,7 @@ public class ManagerService {
 
         Manager newManagerUser = new Manager(managerUser, todo);
         Manager savedManagerUser = managerRepository.save(newManagerUser);
+        eventPublisher.publishEvent(new TodosChangedEvent()); // 검색 결과의 담당자 수 변경
 
         return new ManagerSaveResponse(
                 savedManagerUser.getId(),
@@ -56,24 +62,26 @@ public class ManagerService {
         );
     }
 
+    @Transactional(readOnly = true)
+    @SingleFlight("managers")
     public List<ManagerResponse> getManagers(long todoId) {
-        Todo todo = todoRepository.findById(todoId)
-                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
+        // 존재 여부만 확인 - Todo 엔티티를 로딩하지 않는다.
+        if (!todoRepository.existsTodoById(todoId)) {
+            throw new InvalidRequestException("Todo not found");
+        }
 
-        List<Manager> managerList = managerRepository.findByTodoIdWithUser(todo.getId());
+        return managerRepository.findResponsesByTodoId(todoId);
+    }
 
-        List<ManagerResponse> dtoList = new ArrayList<>();
-        for (Manager manager : managerList) {
-            User user = manager.getUser();
-            dtoList.add(new ManagerResponse(
-                    manager.getId(),
-                    new UserResponse(user.getId(), user.getEmail())
-            ));
-        }
-        return dtoList;
+    // ETag 용 목록 버전 (담당자가 없으면 null) - 목록 조회와 같은 레플리카에서 읽는다.
+    @Transactional(readOnly = true)
+    @SingleFlight("managers.version")
+    public String getManagersVersion(long todoId) {
+        return managerRepository.findListVersionByTodoId(todoId).toVersion();
     }
 
     @Transactional
+    @ConcurrencyLimited("write")
     public void deleteManager(AuthUser authUser, long todoId, long managerId) {
         User user = User.fromAuthUser(authUser);
 
@@ -92,5 +100,6 @@ public class ManagerService {
         }
 
         managerRepository.delete(manager);
+        eventPublisher.publishEvent(new TodosChangedEvent());
     }
 }
@@ -0,0 +1,206 @@
+package org.example.expert.domain.todo.autocomplete;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 제목 자동완성 trie (자모 단위). 동기화하지 않으므로 TodoTitleIndex 의 잠금 안에서만 사용한다.
+ * - 노드마다 하위 제목 중 상위 topN 개(건수 내림차순)를 미리 들고 있어서, 조회는 접두어 길이만큼 내려간 뒤 목록을 그대로 반환한다.
+ * - 메모리 제한 : 제목 수(maxTitles), 깊이(maxDepth) 를 넘는 부분은 노드를 만들지 않는다.
+ *   maxDepth 노드는 하위 제목 전체(bucket)를 들고 있고, 그보다 긴 접두어는 bucket 을 걸러서 찾는다.
+ * - 제목 전체와 단어 시작 위치(최대 maxWords 개)를 키로 넣어서 "회의" 로 "주간 회의" 도 찾는다.
+ */
+class TitleTrie {
+
+    static final Comparator<Suggestion> RANKING =
+            Comparator.comparingInt(Suggestion::getCount).reversed().thenComparing(Suggestion::getTitle);
+
+    private static final char[] NO_KEYS = new char[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+    private static final Suggestion[] NO_SUGGESTIONS = new Suggestion[0];
+
+    private final int topN;
+    private final int maxDepth;
+    private final int maxWords;
+    private final int maxTitles;
+
+    private final Node root = new Node();
+    private final Map<String, Suggestion> suggestions = new HashMap<>();
+    private int nodeCount = 1;
+
+    TitleTrie(int topN, int maxDepth, int maxWords, int maxTitles) {
+        this.topN = topN;
+        this.maxDepth = maxDepth;
+        this.maxWords = maxWords;
+        this.maxTitles = maxTitles;
+    }
+
+    /**
+     * @return 색인했으면 true, 새 제목인데 maxTitles 에 도달해서 버렸으면 false
+     */
+    boolean add(String title) {
+        Suggestion suggestion = suggestions.get(title);
+        boolean isNew = suggestion == null;
+        if (isNew) {
+            if (suggestions.size() >= maxTitles) {
+                return false;
+            }
+            suggestion = new Suggestion(title, keysOf(title));
+            suggestions.put(title, suggestion);
+        }
+        suggestion.count++;
+
+        for (String key : suggestion.keys) {
+            Node node = root;
+            int depth = Math.min(key.length(), maxDepth);
+            for (int i = 0; i < depth; i++) {
+                node = node.childOrCreate(key.charAt(i));
+                node.offer(suggestion, topN);
+            }
+            if (depth == maxDepth && isNew) {
+                node.addToBucket(suggestion);
+            }
+        }
+        return true;
+    }
+
+    List<Suggestion> suggest(String prefix, int limit) {
+        String key = HangulJamo.decompose(prefix);
+        if (key.isEmpty()) {
+            return List.of();
+        }
+
+        Node node = root;
+        int depth = Math.min(key.length(), maxDepth);
+        for (int i = 0; i < depth && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+        if (node == null) {
+            return List.of();
+        }
+
+        if (key.length() <= maxDepth) {
+            return List.of(Arrays.copyOf(node.top, Math.min(limit, node.top.length)));
+        }
+        // maxDepth 보다 긴 접두어 : 해당 노드의 bucket 에서 직접 거름
+        return node.bucket == null ? List.of() : node.bucket.stream()
+                .filter(suggestion -> suggestion.matches(key))
+                .sorted(RANKING)
+                .limit(limit)
+                .toList();
+    }
+
+    int titleCount() {
+        return suggestions.size();
+    }
+
+    int nodeCount() {
+        return nodeCount;
+    }
+
+    // 제목 전체 + 각 단어부터 끝까지 (중복 제거)
+    private String[] keysOf(String title) {
+        String normalized = HangulJamo.decompose(title);
+        Set<String> keys = new LinkedHashSet<>();
+        keys.add(normalized);
+        for (int i = normalized.indexOf(' '); i >= 0 && keys.size() <= maxWords; i = normalized.indexOf(' ', i + 1)) {
+            keys.add(normalized.substring(i + 1));
+        }
+        keys.remove("");
+        return keys.toArray(String[]::new);
+    }
+
+    static class Suggestion {
+
+        private final String title;
+        private final String[] keys;
+        private int count; // 같은 제목의 일정 수
+
+        Suggestion(String title, String[] keys) {
+            this.title = title;
+            this.keys = keys;
+        }
+
+        String getTitle() {
+            return title;
+        }
+
+        int getCount() {
+            return count;
+        }
+
+        boolean matches(String prefix) {
+            for (String key : keys) {
+                if (key.startsWith(prefix)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private class Node {
+
+        // 자식 수가 대부분 적어서 Map 대신 정렬하지 않은 배열 + 선형 탐색
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private Suggestion[] top = NO_SUGGESTIONS;
+        private List<Suggestion> bucket; // maxDepth 노드에만
+
+        Node child(char key) {
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == key) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        Node childOrCreate(char key) {
+            Node child = child(key);
+            if (child == null) {
+                child = new Node();
+                keys = Arrays.copyOf(keys, keys.length + 1);
+                children = Arrays.copyOf(children, children.length + 1);
+                keys[keys.length - 1] = key;
+                children[children.length - 1] = child;
+                nodeCount++;
+            }
+            return child;
+        }
+
+        // 건수는 증가만 하므로, 이미 있으면 재정렬 / 없으면 마지막보다 높을 때만 교체
+        void offer(Suggestion suggestion, int topN) {
+            for (Suggestion existing : top) {
+                if (existing == suggestion) {
+                    Arrays.sort(top, RANKING);
+                    return;
+                }
+            }
+            if (top.length < topN) {
+                top = Arrays.copyOf(top, top.length + 1);
+                top[top.length - 1] = suggestion;
+            } else if (RANKING.compare(suggestion, top[top.length - 1]) < 0) {
+                top[top.length - 1] = suggestion;
+            } else {
+                return;
+            }
+            Arrays.sort(top, RANKING);
+        }
+
+        void addToBucket(Suggestion suggestion) {
+            if (bucket == null) {
+                bucket = new ArrayList<>();
+            }
+            if (!bucket.contains(suggestion)) {
+                bucket.add(suggestion);
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.expert.domain.todo.autocomplete;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.expert.domain.todo.dto.response.TodoTitleSuggestionResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntSupplier;
+
+/**
+ * 일정 제목 자동완성 색인 (인스턴스 메모리, TitleTrie).
+ * 시작 시 TodoTitleIndexLoader 가 todos 를 스트리밍으로 읽어 채우고, 이후에는 일정이 추가될 때마다 커밋 후 반영한다.
+ * 키 입력마다 titleContains(LIKE '%..%') 검색을 하지 않도록 조회는 DB 를 거치지 않는다.
+ * 보관된 일정의 제목은 빠지지 않는다. (제안 목록일 뿐이고, 건수는 등록된 누적 건수)
+ */
+@Component
+public class TodoTitleIndex {
+
+    private final TitleTrie trie;
+    private final int topN;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Counter rejectedCounter;
+
+    public TodoTitleIndex(
+            MeterRegistry meterRegistry,
+            @Value("${todo.autocomplete.top-n:10}") int topN,
+            @Value("${todo.autocomplete.max-depth:24}") int maxDepth,
+            @Value("${todo.autocomplete.max-words:3}") int maxWords,
+            @Value("${todo.autocomplete.max-titles:20000}") int maxTitles
+    ) {
+        this.trie = new TitleTrie(topN, maxDepth, maxWords, maxTitles);
+        this.topN = topN;
+
+        this.rejectedCounter = meterRegistry.counter("todo.autocomplete.rejected"); // maxTitles 초과로 색인하지 못한 제목
+        Gauge.builder("todo.autocomplete.titles", this, index -> index.read(index.trie::titleCount)).register(meterRegistry);
+        Gauge.builder("todo.autocomplete.nodes", this, index -> index.read(index.trie::nodeCount)).register(meterRegistry);
+    }
+
+    // 노드마다 미리 골라 두는 제안 수 = 한 번에 돌려줄 수 있는 최대 제안 수
+    public int getTopN() {
+        return topN;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTodoTitlesAdded(TodoTitlesAddedEvent event) {
+        addAll(event.titles());
+    }
+
+    public void addAll(List<String> titles) {
+        lock.writeLock().lock();
+        try {
+            for (String title : titles) {
+                if (title != null && !title.isBlank() && !trie.add(title)) {
+                    rejectedCounter.increment();
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<TodoTitleSuggestionResponse> suggest(String prefix, int limit) {
+        lock.readLock().lock();
+        try {
+            return trie.suggest(prefix, limit).stream()
+                    .map(suggestion -> new TodoTitleSuggestionResponse(suggestion.getTitle(), suggestion.getCount()))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private int read(IntSupplier supplier) {
+        lock.readLock().lock();
+        try {
+            return supplier.getAsInt();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
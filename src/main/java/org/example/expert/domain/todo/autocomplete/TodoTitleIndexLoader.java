@@ -0,0 +1,51 @@
+package org.example.expert.domain.todo.autocomplete;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 시작 시 todos 의 제목을 커서로 읽어 TodoTitleIndex 를 채운다.
+ * ApplicationRunner 는 readiness(ACCEPTING_TRAFFIC) 전에 실행되므로, 트래픽을 받기 전에 색인이 준비된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TodoTitleIndexLoader implements ApplicationRunner {
+
+    private static final int CHUNK_SIZE = 1000; // 쓰기 잠금을 제목 하나마다 잡지 않도록 묶어서 반영
+
+    private final TodoRepository todoRepository;
+    private final TodoTitleIndex todoTitleIndex;
+
+    @Override
+    @Transactional(readOnly = true)
+    public void run(ApplicationArguments args) {
+        long startNanos = System.nanoTime();
+        long count = 0;
+
+        List<String> chunk = new ArrayList<>(CHUNK_SIZE);
+        try (Stream<String> titles = todoRepository.streamTitles()) {
+            for (String title : (Iterable<String>) titles::iterator) {
+                chunk.add(title);
+                if (chunk.size() == CHUNK_SIZE) {
+                    todoTitleIndex.addAll(chunk);
+                    count += chunk.size();
+                    chunk.clear();
+                }
+            }
+        }
+        todoTitleIndex.addAll(chunk);
+        count += chunk.size();
+
+        log.info("Todo title index built : {} todos in {} ms", count, (System.nanoTime() - startNanos) / 1_000_000);
+    }
+}
@@ -0,0 +1,9 @@
+package org.example.expert.domain.todo.autocomplete;
+
+import java.util.List;
+
+/**
+ * 일정이 추가되었을 때(단건 저장, 일괄 등록) 발행한다. 커밋 후 TodoTitleIndex 에 제목이 반영된다.
+ */
+public record TodoTitlesAddedEvent(List<String> titles) {
+}
@@ -0,0 +1,148 @@
+package org.example.expert.domain.todo.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * 일정 상세(TodoResponse) 캐시 (todoId -> 상세, LRU).
+ * 상세 값은 날씨 반영/보관 때만 바뀌므로, 검색 캐시처럼 모든 변경에 전체를 버리지 않고 TodoDetailsChangedEvent 의 일정만 제거한다.
+ * 이벤트는 이 인스턴스의 변경만 전달되므로 다른 인스턴스의 변경은
+ * - 단건 조회(get) : DB 의 현재 modifiedAt 과 캐시된 값의 modifiedAt 을 비교해서 다르면 다시 조회
+ * - 여러 건 조회(getAll) : ttl 이 지난 항목을 다시 조회
+ * 로 반영한다.
+ */
+@Component
+public class TodoDetailCache {
+
+    private final int maxEntries;
+    private final long ttlNanos;
+
+    private final LinkedHashMap<Long, CachedTodo> entries = new LinkedHashMap<>(16, 0.75f, true); // access-order (LRU)
+    // 제거가 일어날 때마다 증가. 제거 전에 읽은 값이 제거 후에 저장되지 않도록 조회 시작 시점의 값과 비교한다.
+    private long generation;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public TodoDetailCache(
+            MeterRegistry meterRegistry,
+            @Value("${todo.detail-cache.max-entries:10000}") int maxEntries,
+            @Value("${todo.detail-cache.ttl:1m}") Duration ttl
+    ) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+
+        this.hitCounter = meterRegistry.counter("todo.detail.cache", "result", "hit");
+        this.missCounter = meterRegistry.counter("todo.detail.cache", "result", "miss");
+        Gauge.builder("todo.detail.cache.size", this, TodoDetailCache::size).register(meterRegistry);
+    }
+
+    /**
+     * 일정 하나를 조회한다. 캐시된 값이 currentModifiedAt 과 같은 버전일 때만 사용하고, 다르면(다른 인스턴스에서 변경) 다시 조회한다.
+     * @param currentModifiedAt 이 요청에서 먼저 읽은(ETag) 일정의 modifiedAt (null 이면 캐시를 쓰지 않고 조회)
+     * @return 상세 (일정이 없으면 null)
+     */
+    public TodoResponse get(Long todoId, LocalDateTime currentModifiedAt, Function<List<Long>, List<TodoResponse>> loader) {
+        long loadGeneration;
+        synchronized (this) {
+            loadGeneration = generation;
+            CachedTodo cached = findFresh(todoId);
+            if (cached != null && Objects.equals(cached.todo().getModifiedAt(), currentModifiedAt)) {
+                hitCounter.increment();
+                return cached.todo();
+            }
+        }
+        missCounter.increment();
+
+        List<TodoResponse> loaded = loader.apply(List.of(todoId));
+        putAll(loadGeneration, loaded);
+        return loaded.isEmpty() ? null : loaded.get(0);
+    }
+
+    /**
+     * 캐시에 있는 일정은 그대로 사용하고, 없는 일정만 모아서 loader 로 한 번에 조회한다.
+     * @return todoId -> 상세 (존재하지 않는 일정은 포함되지 않음)
+     */
+    public Map<Long, TodoResponse> getAll(Collection<Long> todoIds, Function<List<Long>, List<TodoResponse>> loader) {
+        Map<Long, TodoResponse> result = new HashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+        long loadGeneration;
+
+        synchronized (this) {
+            loadGeneration = generation;
+            for (Long todoId : todoIds) {
+                CachedTodo cached = findFresh(todoId);
+                if (cached != null) {
+                    result.put(todoId, cached.todo());
+                } else {
+                    missingIds.add(todoId);
+                }
+            }
+        }
+        hitCounter.increment(result.size());
+        missCounter.increment(missingIds.size());
+
+        if (!missingIds.isEmpty()) {
+            List<TodoResponse> loaded = loader.apply(missingIds);
+            loaded.forEach(todo -> result.put(todo.getId(), todo));
+            putAll(loadGeneration, loaded);
+        }
+        return result;
+    }
+
+    // 커밋 전에 지우면 커밋 전 값이 다시 캐싱될 수 있으므로 커밋 후에 지운다.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onTodoDetailsChanged(TodoDetailsChangedEvent event) {
+        generation++;
+        event.todoIds().forEach(entries::remove);
+    }
+
+    private synchronized void putAll(long loadGeneration, List<TodoResponse> loaded) {
+        if (loadGeneration != generation) {
+            return; // 조회하는 동안 제거가 있었음 - 조회한 값이 이미 오래된 값일 수 있다.
+        }
+
+        long now = System.nanoTime();
+        loaded.forEach(todo -> entries.put(todo.getId(), new CachedTodo(todo, now)));
+        Iterator<CachedTodo> iterator = entries.values().iterator();
+        while (entries.size() > maxEntries && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    // ttl 이 지난 항목은 제거하고 null (synchronized 안에서 호출)
+    private CachedTodo findFresh(Long todoId) {
+        CachedTodo cached = entries.get(todoId);
+        if (cached != null && System.nanoTime() - cached.loadedAtNanos() >= ttlNanos) {
+            entries.remove(todoId);
+            return null;
+        }
+        return cached;
+    }
+
+    private synchronized int size() {
+        return entries.size();
+    }
+
+    private record CachedTodo(TodoResponse todo, long loadedAtNanos) {
+    }
+}
@@ -0,0 +1,10 @@
+package org.example.expert.domain.todo.cache;
+
+import java.util.Collection;
+
+/**
+ * 일정 상세(TodoResponse)에 보이는 값이 바뀌거나 일정이 없어질 때(날씨 반영, 보관) 발행한다.
+ * 커밋 후 TodoDetailCache 에서 해당 일정들이 제거된다.
+ */
+public record TodoDetailsChangedEvent(Collection<Long> todoIds) {
+}
@@ -0,0 +1,176 @@
+package org.example.expert.domain.todo.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.example.expert.domain.todo.dto.TodoSearchCondition;
+import org.example.expert.domain.todo.dto.response.TodoSearchFacetsResponse;
+import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * 일정 검색(searchTodosList) 페이지 결과 / facet 결과 캐시.
+ * 키 = (TodosVersion, 정규화된 검색 조건, 페이지 또는 facet). 일정/담당자/댓글이 바뀌면 버전이 올라가서 이전 키는 자연히 조회되지 않고,
+ * 남아있는 항목은 LRU 로 밀려난다. 항목 수와 추정 메모리 크기 두 가지로 제한한다.
+ * TodosVersion 은 인스턴스 메모리 값이라 다른 인스턴스의 변경이나 레플리카 지연으로 늦게 읽힌 결과는 버전으로 걸러지지 않는다.
+ * 그래서 항목마다 ttl 을 두어, 이런 경우에도 오래된 결과가 ttl 이상 남지 않게 한다.
+ */
+@Component
+public class TodoSearchCache {
+
+    private final TodosVersion todosVersion;
+    private final int maxEntries;
+    private final long maxBytes;
+    private final long ttlNanos;
+
+    private final LinkedHashMap<SearchKey, CachedValue> entries = new LinkedHashMap<>(16, 0.75f, true); // access-order (LRU)
+    private long totalBytes;
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public TodoSearchCache(
+            TodosVersion todosVersion,
+            MeterRegistry meterRegistry,
+            @Value("${todo.search-cache.max-entries:1000}") int maxEntries,
+            @Value("${todo.search-cache.max-size:16MB}") DataSize maxSize,
+            @Value("${todo.search-cache.ttl:10s}") Duration ttl
+    ) {
+        this.todosVersion = todosVersion;
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxSize.toBytes();
+        this.ttlNanos = ttl.toNanos();
+
+        this.hitCounter = meterRegistry.counter("todo.search.cache", "result", "hit");
+        this.missCounter = meterRegistry.counter("todo.search.cache", "result", "miss");
+        Gauge.builder("todo.search.cache.size", this, TodoSearchCache::size).register(meterRegistry);
+        Gauge.builder("todo.search.cache.hit.ratio", this, TodoSearchCache::hitRatio).register(meterRegistry);
+    }
+
+    public Page<TodoSearchResponse> getOrLoad(TodoSearchCondition condition, int page, int size,
+                                              Supplier<Page<TodoSearchResponse>> loader) {
+        // 조회 전에 버전을 읽어야, 조회 도중 커밋된 변경이 있어도 결과가 새 버전으로 저장되지 않는다.
+        SearchKey key = SearchKey.of(todosVersion.current(), condition, false, page, size);
+        return getOrLoad(key, loader, result -> estimateBytes(key, result));
+    }
+
+    // facet 은 페이지와 무관하므로 검색 조건만으로 캐싱
+    public TodoSearchFacetsResponse getOrLoadFacets(TodoSearchCondition condition, Supplier<TodoSearchFacetsResponse> loader) {
+        SearchKey key = SearchKey.of(todosVersion.current(), condition, true, 0, 0);
+        return getOrLoad(key, loader, result -> estimateBytes(key, result));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T getOrLoad(SearchKey key, Supplier<T> loader, ToLongFunction<T> sizeEstimator) {
+        CachedValue cached = get(key);
+        if (cached != null) {
+            hitCounter.increment();
+            return (T) cached.value();
+        }
+
+        missCounter.increment();
+        long loadStartNanos = System.nanoTime();
+        T result = loader.get();
+        // 조회를 시작한 시각 기준으로 만료시킨다. (조회 중에 다른 인스턴스에서 커밋된 변경도 ttl 안에 반영)
+        put(key, new CachedValue(result, sizeEstimator.applyAsLong(result), loadStartNanos));
+        return result;
+    }
+
+    private synchronized CachedValue get(SearchKey key) {
+        CachedValue cached = entries.get(key);
+        if (cached != null && System.nanoTime() - cached.loadedAtNanos() >= ttlNanos) {
+            entries.remove(key);
+            totalBytes -= cached.bytes();
+            return null;
+        }
+        return cached;
+    }
+
+    private synchronized void put(SearchKey key, CachedValue value) {
+        if (value.bytes() > maxBytes) {
+            return;
+        }
+
+        CachedValue previous = entries.put(key, value);
+        if (previous != null) {
+            totalBytes -= previous.bytes();
+        }
+        totalBytes += value.bytes();
+
+        Iterator<CachedValue> iterator = entries.values().iterator();
+        while ((entries.size() > maxEntries || totalBytes > maxBytes) && iterator.hasNext()) {
+            totalBytes -= iterator.next().bytes();
+            iterator.remove();
+        }
+    }
+
+    private synchronized int size() {
+        return entries.size();
+    }
+
+    private double hitRatio() {
+        double hits = hitCounter.count();
+        double total = hits + missCounter.count();
+        return total == 0 ? 0 : hits / total;
+    }
+
+    // 대략적인 힙 사용량 추정 (객체 헤더 + 문자열)
+    private static long estimateBytes(SearchKey key, Page<TodoSearchResponse> page) {
+        long bytes = 256 + stringBytes(key.title()) + stringBytes(key.managerNickname());
+        for (TodoSearchResponse response : page.getContent()) {
+            bytes += 64 + stringBytes(response.getTitle());
+        }
+        return bytes;
+    }
+
+    private static long estimateBytes(SearchKey key, TodoSearchFacetsResponse facets) {
+        long bytes = 256 + stringBytes(key.title()) + stringBytes(key.managerNickname());
+        for (TodoSearchFacetsResponse.ValueCount count : facets.getWeathers()) {
+            bytes += 48 + stringBytes(count.getValue());
+        }
+        bytes += facets.getMonths().size() * (48 + stringBytes("yyyy-MM"));
+        for (TodoSearchFacetsResponse.ManagerCount count : facets.getManagers()) {
+            bytes += 64 + stringBytes(count.getNickname());
+        }
+        return bytes;
+    }
+
+    private static long stringBytes(String value) {
+        return value == null ? 0 : 40 + value.length() * 2L;
+    }
+
+    private record CachedValue(Object value, long bytes, long loadedAtNanos) {
+    }
+
+    private record SearchKey(long version, String title, String managerNickname,
+                             LocalDate startDate, LocalDate endDate, boolean includeArchived,
+                             boolean facets, int page, int size) {
+
+        // 빈 문자열 조건은 조건 없음과 같은 결과이므로 같은 키로 본다.
+        static SearchKey of(long version, TodoSearchCondition condition, boolean facets, int page, int size) {
+            return new SearchKey(
+                    version,
+                    StringUtils.hasLength(condition.getTitle()) ? condition.getTitle() : null,
+                    StringUtils.hasLength(condition.getManagerNickname()) ? condition.getManagerNickname() : null,
+                    condition.getStartDate(),
+                    condition.getEndDate(),
+                    condition.isIncludeArchived(),
+                    facets,
+                    page,
+                    size
+            );
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package org.example.expert.domain.todo.cache;
+
+/**
+ * 일정 검색 결과에 영향을 주는 변경(일정, 담당자, 댓글 저장/삭제)이 있을 때 발행한다.
+ * 커밋 후 TodosVersion 이 증가하면서 이전 버전으로 캐싱된 검색 결과는 더 이상 조회되지 않는다.
+ */
+public class TodosChangedEvent {
+}
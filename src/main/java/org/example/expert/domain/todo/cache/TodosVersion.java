@@ -0,0 +1,28 @@
+package org.example.expert.domain.todo.cache;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 일정 관련 데이터의 전역 버전 (단조 증가).
+ * 캐시 키에 버전을 포함시키므로, 변경 시 오래된 항목을 찾아서 지울 필요 없이 버전만 올리면 된다.
+ * 이 인스턴스에서 커밋된 변경만 반영되므로, 다른 인스턴스의 변경은 TodoSearchCache 의 ttl 로 반영된다.
+ */
+@Component
+public class TodosVersion {
+
+    private final AtomicLong version = new AtomicLong();
+
+    public long current() {
+        return version.get();
+    }
+
+    // 커밋 전에 올리면 커밋 전 데이터를 새 버전으로 캐싱할 수 있으므로 커밋 후에 올린다.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTodosChanged(TodosChangedEvent event) {
+        version.incrementAndGet();
+    }
+}
@@ -0,0 +1,46 @@
+package org.example.expert.domain.todo.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.annotation.Auth;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorPageResponse;
+import org.example.expert.domain.todo.dto.response.AssignedTodoResponse;
+import org.example.expert.domain.todo.dto.response.MyTodoResponse;
+import org.example.expert.domain.todo.service.TodoService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+public class MyTodoController {
+
+    private final TodoService todoService;
+
+    /**
+     * 내가 작성한 일정 (keyset 페이지)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     */
+    @GetMapping("/users/me/todos")
+    public ResponseEntity<CursorPageResponse<MyTodoResponse>> getMyTodos(
+            @Auth AuthUser authUser,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(todoService.getMyTodos(authUser, cursor, size));
+    }
+
+    /**
+     * 내가 담당자로 등록된 일정 (keyset 페이지)
+     * @param cursor 이전 응답의 nextCursor (첫 페이지는 생략)
+     */
+    @GetMapping("/users/me/assigned-todos")
+    public ResponseEntity<CursorPageResponse<AssignedTodoResponse>> getAssignedTodos(
+            @Auth AuthUser authUser,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return ResponseEntity.ok(todoService.getAssignedTodos(authUser, cursor, size));
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.expert.domain.todo.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.response.TodoDailyStatRebuildResponse;
+import org.example.expert.domain.todo.dto.response.TodoDailyStatResponse;
+import org.example.expert.domain.todo.service.TodoDailyStatRebuilder;
+import org.example.expert.domain.todo.service.TodoDailyStatService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class TodoAnalyticsController {
+
+    private static final int MAX_RANGE_DAYS = 366;
+
+    private final TodoDailyStatService todoDailyStatService;
+    private final TodoDailyStatRebuilder todoDailyStatRebuilder;
+
+    /**
+     * 작성일 x 날씨별 일정/댓글 수 (todo_daily_stats 집계 테이블에서 조회)
+     * 기간을 생략하면 최근 30일
+     */
+    @GetMapping("/admin/analytics/todos/daily")
+    public ResponseEntity<List<TodoDailyStatResponse>> getDailyStats(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String weather
+    ) {
+        LocalDate end = endDate != null ? endDate : LocalDate.now();
+        LocalDate start = startDate != null ? startDate : end.minusDays(29);
+        if (start.isAfter(end) || ChronoUnit.DAYS.between(start, end) >= MAX_RANGE_DAYS) {
+            throw new InvalidRequestException("조회 기간은 " + MAX_RANGE_DAYS + "일 이내여야 합니다.");
+        }
+        return ResponseEntity.ok(todoDailyStatService.getDailyStats(start, end, weather));
+    }
+
+    /**
+     * 집계를 원본 일정/댓글에서 다시 계산 (배포 전 데이터 backfill, 보정)
+     * 기간을 생략하면 가장 오래된 일정의 작성일부터 오늘까지
+     */
+    @PostMapping("/admin/analytics/todos/daily/rebuild")
+    public ResponseEntity<TodoDailyStatRebuildResponse> rebuildDailyStats(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+    ) {
+        return ResponseEntity.ok(todoDailyStatRebuilder.rebuild(startDate, endDate));
+    }
+}
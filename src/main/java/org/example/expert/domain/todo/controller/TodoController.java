@@ -4,24 +4,44 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.common.annotation.Auth;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.web.ConditionalGetHandler;
 import org.example.expert.domain.todo.dto.TodoSearchCondition;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoBatchResponse;
+import org.example.expert.domain.todo.dto.response.TodoImportResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoSearchFacetsResponse;
+import org.example.expert.domain.todo.dto.response.TodoSearchPageResponse;
 import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.example.expert.domain.todo.dto.response.TodoSummaryResponse;
+import org.example.expert.domain.todo.dto.response.TodoTitleSuggestionResponse;
+import org.example.expert.domain.todo.dto.response.TrendingTodoResponse;
+import org.example.expert.domain.todo.enums.ExportFormat;
+import org.example.expert.domain.todo.service.TodoExportService;
+import org.example.expert.domain.todo.service.TodoImportService;
 import org.example.expert.domain.todo.service.TodoService;
 import org.springframework.data.domain.Page;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
 public class TodoController {
 
     private final TodoService todoService;
+    private final TodoExportService todoExportService;
+    private final TodoImportService todoImportService;
+    private final ConditionalGetHandler conditionalGetHandler;
 
     @PostMapping("/todos")
     public ResponseEntity<TodoSaveResponse> saveTodo(
@@ -31,20 +51,74 @@ public class TodoController {
         return ResponseEntity.ok(todoService.saveTodo(authUser, todoSaveRequest));
     }
 
+    /**
+     * 일정 일괄 등록 (NDJSON, 한 줄에 일정 하나)
+     * 본문을 스트림으로 읽어 청크 단위로 저장하며, 중단된 경우 응답의 jobId 로 같은 파일을 다시 올리면 이어서 진행한다.
+     * @param jobId 재개할 import 작업 id
+     */
+    // form 타입이면 서블릿 컨테이너가 본문을 파라미터로 읽어버리므로 NDJSON 만 받는다.
+    @PostMapping(value = "/todos/import", consumes = "application/x-ndjson")
+    public ResponseEntity<TodoImportResponse> importTodos(
+            @Auth AuthUser authUser,
+            @RequestParam(required = false) Long jobId,
+            InputStream inputStream
+    ) {
+        return ResponseEntity.ok(todoImportService.importTodos(authUser, jobId, inputStream));
+    }
+
     @GetMapping("/todos")
-    public ResponseEntity<Page<TodoResponse>> getTodos(
+    public ResponseEntity<Page<TodoSummaryResponse>> getTodos(
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(required = false) String weather,  // 날씨 조건 추가
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,  // 수정일 기준 시작일 추가
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate  // 수정일 기준 종료일 추가
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,  // 수정일 기준 종료일 추가
+            @RequestParam(defaultValue = "false") boolean includeArchived  // 보관된 일정 포함
+    ) {
+        return ResponseEntity.ok(todoService.getTodos(page, size, weather, startDate, endDate, includeArchived));
+    }
+
+    /**
+     * 여러 일정 상세 일괄 조회 (알림/북마크 등 id 목록을 가진 클라이언트용)
+     * @param ids 조회할 일정 id (쉼표 구분, 최대 100개) - 응답은 요청 순서를 따르고, 없는 일정은 missingIds 로 반환
+     */
+    @GetMapping(value = "/todos", params = "ids")
+    public ResponseEntity<TodoBatchResponse> getTodosByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(todoService.getTodosByIds(ids));
+    }
+
+    /**
+     * 일정 제목 자동완성 (입력 중인 글자 포함, 같은 제목의 일정 수가 많은 순)
+     * @param q 입력한 접두어 - 제목의 시작 또는 제목 안 단어의 시작과 일치
+     * @param limit 제안 수 (기본/최대 todo.autocomplete.top-n)
+     */
+    @GetMapping("/todos/autocomplete")
+    public ResponseEntity<List<TodoTitleSuggestionResponse>> autocompleteTitles(
+            @RequestParam(defaultValue = "") String q,
+            @RequestParam(required = false) Integer limit
     ) {
-        return ResponseEntity.ok(todoService.getTodos(page, size, weather, startDate, endDate));
+        return ResponseEntity.ok(todoService.autocompleteTitles(q, limit));
+    }
+
+    /**
+     * 인기 일정 - 최근 1시간(hour) / 24시간(day) 동안 댓글이 많이 달린 순
+     * @param window hour(기본) 또는 day
+     */
+    @GetMapping("/todos/trending")
+    public ResponseEntity<List<TrendingTodoResponse>> getTrendingTodos(
+            @RequestParam(defaultValue = "hour") String window,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(todoService.getTrendingTodos(window, limit));
     }
 
     @GetMapping("/todos/{todoId}")
-    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId) {
-        return ResponseEntity.ok(todoService.getTodo(todoId));
+    public ResponseEntity<TodoResponse> getTodo(@PathVariable long todoId, WebRequest webRequest) {
+        // 수정일 기반 ETag - 변경이 없으면 일정 조회 없이 304 반환 (같은 수정일로 캐시된 상세를 검증)
+        LocalDateTime modifiedAt = todoService.getTodoModifiedAt(todoId);
+        return conditionalGetHandler.handle(webRequest, "todo", todoId,
+                modifiedAt == null ? null : String.valueOf(modifiedAt),
+                () -> todoService.getTodo(todoId, modifiedAt));
     }
 
     /**
@@ -55,24 +129,57 @@ public class TodoController {
      * @param managerNickname 담당자 닉네임 (부분 일치)
      * @param startDate 생성일 시작
      * @param endDate 생성일 종료
+     * @param includeArchived 보관된(오래된) 일정까지 포함 - 기본은 최근 일정(hot 테이블)만 검색
+     * @param facets 날씨/작성 월/담당자별 건수를 함께 반환 (검색 조건 전체 기준)
      */
     @GetMapping("/todos/search")
-    public ResponseEntity<Page<TodoSearchResponse>> searchTodos(
+    public ResponseEntity<TodoSearchPageResponse> searchTodos(
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(required = false) String title,
             @RequestParam(required = false) String managerNickname,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDate startDate,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDate endDate
-
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDate endDate,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            @RequestParam(defaultValue = "false") boolean facets
     ) {
         TodoSearchCondition condition = new TodoSearchCondition();
         condition.setTitle(title);
         condition.setManagerNickname(managerNickname);
         condition.setStartDate(startDate);
         condition.setEndDate(endDate);
+        condition.setIncludeArchived(includeArchived);
 
         Page<TodoSearchResponse> result = todoService.searchTodosList(condition, page, size);
-        return ResponseEntity.ok(result);
+        TodoSearchFacetsResponse facetCounts = facets ? todoService.searchTodoFacets(condition) : null;
+        return ResponseEntity.ok(new TodoSearchPageResponse(result, facetCounts));
+    }
+
+    /**
+     * 일정 검색 결과 전체 내보내기 (NDJSON / CSV 스트리밍)
+     * 검색 API 를 페이지마다 호출하는 대신, 같은 조건의 결과를 한 번의 커서 쿼리로 끝까지 내려준다.
+     * @param format ndjson(기본) 또는 csv
+     */
+    @GetMapping("/todos/search/export")
+    public ResponseEntity<StreamingResponseBody> exportTodos(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(required = false) String title,
+            @RequestParam(required = false) String managerNickname,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate
+    ) {
+        ExportFormat exportFormat = ExportFormat.of(format);
+
+        TodoSearchCondition condition = new TodoSearchCondition();
+        condition.setTitle(title);
+        condition.setManagerNickname(managerNickname);
+        condition.setStartDate(startDate);
+        condition.setEndDate(endDate);
+
+        StreamingResponseBody body = outputStream -> todoExportService.export(condition, exportFormat, outputStream);
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"todos." + exportFormat.getExtension() + "\"")
+                .body(body);
     }
 }
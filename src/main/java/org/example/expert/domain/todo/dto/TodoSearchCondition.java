@@ -12,4 +12,5 @@ public class TodoSearchCondition {
     private String managerNickname;  // 담당자 닉네임 검색
     private LocalDate startDate;     // 생성일 기준 시작일
     private LocalDate endDate;       // 생성일 기준 종료일
+    private boolean includeArchived; // 보관된 일정 포함 여부
 }
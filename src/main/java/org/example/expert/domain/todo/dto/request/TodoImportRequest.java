@@ -0,0 +1,18 @@
+package org.example.expert.domain.todo.dto.request;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+// 일괄 등록 파일(NDJSON)의 한 줄
+@Getter
+@Setter
+@NoArgsConstructor
+public class TodoImportRequest {
+
+    private String title;
+    private String contents;
+    private LocalDateTime createdAt;  // 생략 시 등록 시각, 날씨도 이 날짜 기준
+}
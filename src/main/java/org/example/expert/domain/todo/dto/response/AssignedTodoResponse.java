@@ -0,0 +1,24 @@
+package org.example.expert.domain.todo.dto.response;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+// 내가 담당자로 등록된 일정 목록용
+@Getter
+public class AssignedTodoResponse {
+
+    private final Long todoId;
+    private final String title;
+    private final Long authorId;       // 일정 작성자
+    private final LocalDateTime createdAt;
+
+    @QueryProjection
+    public AssignedTodoResponse(Long todoId, String title, Long authorId, LocalDateTime createdAt) {
+        this.todoId = todoId;
+        this.title = title;
+        this.authorId = authorId;
+        this.createdAt = createdAt;
+    }
+}
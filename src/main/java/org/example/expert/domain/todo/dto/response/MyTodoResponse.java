@@ -0,0 +1,27 @@
+package org.example.expert.domain.todo.dto.response;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+import org.example.expert.domain.todo.enums.WeatherStatus;
+
+import java.time.LocalDateTime;
+
+// 내가 작성한 일정 목록용 (본문, 작성자 제외)
+@Getter
+public class MyTodoResponse {
+
+    private final Long id;
+    private final String title;
+    private final String weather;
+    private final WeatherStatus weatherStatus;
+    private final LocalDateTime createdAt;
+
+    @QueryProjection
+    public MyTodoResponse(Long id, String title, String weather, WeatherStatus weatherStatus, LocalDateTime createdAt) {
+        this.id = id;
+        this.title = title;
+        this.weather = weather;
+        this.weatherStatus = weatherStatus;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public class TodoBatchResponse {
+
+    private final List<TodoResponse> todos; // 요청한 id 순서
+    private final List<Long> missingIds;    // 존재하지 않는(삭제/보관된) 일정 id
+
+    public TodoBatchResponse(List<TodoResponse> todos, List<Long> missingIds) {
+        this.todos = todos;
+        this.missingIds = missingIds;
+    }
+}
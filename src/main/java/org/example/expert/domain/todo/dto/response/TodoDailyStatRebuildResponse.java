@@ -0,0 +1,19 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+public class TodoDailyStatRebuildResponse {
+
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final int rebuiltDays;
+
+    public TodoDailyStatRebuildResponse(LocalDate startDate, LocalDate endDate, int rebuiltDays) {
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.rebuiltDays = rebuiltDays;
+    }
+}
@@ -0,0 +1,21 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+@Getter
+public class TodoDailyStatResponse {
+
+    private final LocalDate day;
+    private final String weather; // 날씨가 아직 없는 일정은 null
+    private final long todoCount;
+    private final long commentCount;
+
+    public TodoDailyStatResponse(LocalDate day, String weather, long todoCount, long commentCount) {
+        this.day = day;
+        this.weather = weather.isEmpty() ? null : weather;
+        this.todoCount = todoCount;
+        this.commentCount = commentCount;
+    }
+}
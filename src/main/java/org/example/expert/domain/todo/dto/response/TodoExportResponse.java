@@ -0,0 +1,27 @@
+package org.example.expert.domain.todo.dto.response;
+
+import com.querydsl.core.annotations.QueryProjection;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+public class TodoExportResponse {
+
+    private final Long id;
+    private final String title;
+    private final String weather;
+    private final Long managerCount;      // 담당자 수
+    private final Long commentCount;      // 댓글 수
+    private final LocalDateTime createdAt;
+
+    @QueryProjection
+    public TodoExportResponse(Long id, String title, String weather, Long managerCount, Long commentCount, LocalDateTime createdAt) {
+        this.id = id;
+        this.title = title;
+        this.weather = weather;
+        this.managerCount = managerCount;
+        this.commentCount = commentCount;
+        this.createdAt = createdAt;
+    }
+}
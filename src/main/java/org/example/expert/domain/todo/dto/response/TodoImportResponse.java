@@ -0,0 +1,24 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.todo.enums.ImportJobStatus;
+
+@Getter
+public class TodoImportResponse {
+
+    private final Long jobId;
+    private final ImportJobStatus status;
+    private final long processedLines;   // 전체 처리된 줄 수 (재개 포함)
+    private final long importedRows;     // 전체 등록된 일정 수 (재개 포함)
+    private final long elapsedMillis;    // 이번 요청 처리 시간
+    private final double rowsPerSecond;  // 이번 요청 처리량
+
+    public TodoImportResponse(Long jobId, ImportJobStatus status, long processedLines, long importedRows, long elapsedMillis, double rowsPerSecond) {
+        this.jobId = jobId;
+        this.status = status;
+        this.processedLines = processedLines;
+        this.importedRows = importedRows;
+        this.elapsedMillis = elapsedMillis;
+        this.rowsPerSecond = rowsPerSecond;
+    }
+}
@@ -1,6 +1,7 @@
 package org.example.expert.domain.todo.dto.response;
 
 import lombok.Getter;
+import org.example.expert.domain.todo.enums.WeatherStatus;
 import org.example.expert.domain.user.dto.response.UserResponse;
 
 import java.time.LocalDateTime;
@@ -12,17 +13,24 @@ public class TodoResponse {
     private final String title;
     private final String contents;
     private final String weather;
+    private final WeatherStatus weatherStatus; // PENDING 이면 weather 는 아직 비어있음
     private final UserResponse user;
     private final LocalDateTime createdAt;
     private final LocalDateTime modifiedAt;
 
-    public TodoResponse(Long id, String title, String contents, String weather, UserResponse user, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+    public TodoResponse(Long id, String title, String contents, String weather, WeatherStatus weatherStatus, UserResponse user, LocalDateTime createdAt, LocalDateTime modifiedAt) {
         this.id = id;
         this.title = title;
         this.contents = contents;
         this.weather = weather;
+        this.weatherStatus = weatherStatus;
         this.user = user;
         this.createdAt = createdAt;
         this.modifiedAt = modifiedAt;
     }
+
+    // JPQL 생성자 프로젝션용 (생성자 표현식은 중첩 객체를 만들 수 없음)
+    public TodoResponse(Long id, String title, String contents, String weather, WeatherStatus weatherStatus, Long userId, String userEmail, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this(id, title, contents, weather, weatherStatus, new UserResponse(userId, userEmail), createdAt, modifiedAt);
+    }
 }
@@ -1,6 +1,7 @@
 package org.example.expert.domain.todo.dto.response;
 
 import lombok.Getter;
+import org.example.expert.domain.todo.enums.WeatherStatus;
 import org.example.expert.domain.user.dto.response.UserResponse;
 
 @Getter
@@ -10,13 +11,15 @@ public class TodoSaveResponse {
     private final String title;
     private final String contents;
     private final String weather;
+    private final WeatherStatus weatherStatus; // PENDING 이면 weather 는 아직 비어있음
     private final UserResponse user;
 
-    public TodoSaveResponse(Long id, String title, String contents, String weather, UserResponse user) {
+    public TodoSaveResponse(Long id, String title, String contents, String weather, WeatherStatus weatherStatus, UserResponse user) {
         this.id = id;
         this.title = title;
         this.contents = contents;
         this.weather = weather;
+        this.weatherStatus = weatherStatus;
         this.user = user;
     }
 }
@@ -0,0 +1,48 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 일정 검색 결과의 facet 별 건수 (검색 조건을 만족하는 전체 일정 기준, 페이지와 무관)
+ */
+@Getter
+public class TodoSearchFacetsResponse {
+
+    private final List<ValueCount> weathers; // 날씨별 (날씨가 아직 없는 일정은 value = null)
+    private final List<ValueCount> months;   // 작성 월별 (yyyy-MM)
+    private final List<ManagerCount> managers; // 담당자별 (건수 상위 N명)
+
+    public TodoSearchFacetsResponse(List<ValueCount> weathers, List<ValueCount> months, List<ManagerCount> managers) {
+        this.weathers = weathers;
+        this.months = months;
+        this.managers = managers;
+    }
+
+    @Getter
+    public static class ValueCount {
+
+        private final String value;
+        private final long count;
+
+        public ValueCount(String value, long count) {
+            this.value = value;
+            this.count = count;
+        }
+    }
+
+    @Getter
+    public static class ManagerCount {
+
+        private final Long userId;
+        private final String nickname;
+        private final long count;
+
+        public ManagerCount(Long userId, String nickname, long count) {
+            this.userId = userId;
+            this.nickname = nickname;
+            this.count = count;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package org.example.expert.domain.todo.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.web.PagedModel;
+
+/**
+ * 일정 검색 응답 - 페이지(content, page) 는 다른 Page 응답(VIA_DTO)과 같은 형태이고, facets 요청 시에만 facets 가 추가된다.
+ */
+@Getter
+@JsonPropertyOrder({"content", "page", "facets"})
+public class TodoSearchPageResponse extends PagedModel<TodoSearchResponse> {
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private final TodoSearchFacetsResponse facets;
+
+    public TodoSearchPageResponse(Page<TodoSearchResponse> page, TodoSearchFacetsResponse facets) {
+        super(page);
+        this.facets = facets;
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+import org.example.expert.domain.todo.enums.WeatherStatus;
+import org.example.expert.domain.user.dto.response.UserResponse;
+
+import java.time.LocalDateTime;
+
+/**
+ * 일정 목록용 응답 - 본문 전체 대신 앞부분 미리보기만 내려준다. (전체 본문은 GET /todos/{todoId})
+ */
+@Getter
+public class TodoSummaryResponse {
+
+    public static final int PREVIEW_LENGTH = 100;
+
+    private final Long id;
+    private final String title;
+    private final String contentsPreview;
+    private final boolean contentsTruncated; // true 면 본문이 미리보기보다 길다
+    private final String weather;
+    private final WeatherStatus weatherStatus;
+    private final UserResponse user;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime modifiedAt;
+
+    public TodoSummaryResponse(Long id, String title, String contentsPreview, boolean contentsTruncated, String weather, WeatherStatus weatherStatus,
+                               Long userId, String userEmail, LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this.id = id;
+        this.title = title;
+        this.contentsPreview = contentsPreview;
+        this.contentsTruncated = contentsTruncated;
+        this.weather = weather;
+        this.weatherStatus = weatherStatus;
+        this.user = new UserResponse(userId, userEmail);
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class TodoTitleSuggestionResponse {
+
+    private final String title;
+    private final int count; // 같은 제목의 일정 수 (정렬 기준)
+
+    public TodoTitleSuggestionResponse(String title, int count) {
+        this.title = title;
+        this.count = count;
+    }
+}
@@ -0,0 +1,17 @@
+package org.example.expert.domain.todo.dto.response;
+
+import lombok.Getter;
+
+@Getter
+public class TrendingTodoResponse {
+
+    private final Long todoId;
+    private final String title;
+    private final long commentCount; // 집계 구간 동안 달린 댓글 수
+
+    public TrendingTodoResponse(Long todoId, String title, long commentCount) {
+        this.todoId = todoId;
+        this.title = title;
+        this.commentCount = commentCount;
+    }
+}
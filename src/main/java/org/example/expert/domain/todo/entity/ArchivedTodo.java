@@ -0,0 +1,55 @@
+package org.example.expert.domain.todo.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.expert.domain.comment.entity.ArchivedComment;
+import org.example.expert.domain.manager.entity.ArchivedManager;
+import org.example.expert.domain.todo.enums.WeatherStatus;
+import org.example.expert.domain.user.entity.User;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 보관(cold) 일정 - 일정 기간이 지난 일정은 TodoArchiveWorker 가 todos 에서 이 테이블로 옮긴다.
+ * INSERT ... SELECT 로만 채워지는 읽기 전용 테이블이며, id/작성일 등 원본 값을 그대로 유지한다.
+ */
+@Getter
+@Entity
+@Immutable
+@NoArgsConstructor
+@Table(name = "todos_archive", indexes = {
+        @Index(name = "idx_todos_archive_created_at", columnList = "created_at")
+})
+public class ArchivedTodo {
+
+    @Id
+    private Long id;
+    private String title;
+    @Basic(fetch = FetchType.LAZY)
+    private String contents;
+    private String weather;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private WeatherStatus weatherStatus;
+    private int weatherAttempts;
+    private LocalDateTime weatherRetryAt;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @OneToMany(mappedBy = "todo")
+    private List<ArchivedComment> comments = new ArrayList<>();
+
+    @OneToMany(mappedBy = "todo")
+    private List<ArchivedManager> managers = new ArrayList<>();
+
+    private LocalDateTime createdAt;
+    private LocalDateTime modifiedAt;
+    private LocalDateTime archivedAt;
+}
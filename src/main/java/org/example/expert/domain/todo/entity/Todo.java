@@ -6,23 +6,40 @@ import lombok.NoArgsConstructor;
 import org.example.expert.domain.comment.entity.Comment;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.enums.WeatherStatus;
 import org.example.expert.domain.user.entity.User;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Getter
 @Entity
 @NoArgsConstructor
-@Table(name = "todos")
+@Table(name = "todos", indexes = {
+        // 날씨 비동기 조회 대상(PENDING + 재시도 시각 도래) 폴링용
+        @Index(name = "idx_todos_weather_status_retry_at", columnList = "weather_status, weather_retry_at"),
+        // 내가 작성한 일정 keyset 페이지 (/users/me/todos)
+        @Index(name = "idx_todos_user_created_at_id", columnList = "user_id, created_at, id"),
+        // 검색 정렬(created_at DESC) 및 보관 대상(created_at < cutoff) 범위 조회
+        @Index(name = "idx_todos_created_at", columnList = "created_at")
+})
 public class Todo extends Timestamped {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     private String title;
+    // 본문은 클 수 있어 목록/연관 로딩에서는 제외하고, 접근할 때 별도 SELECT 로 로딩 (바이트코드 향상 필요)
+    @Basic(fetch = FetchType.LAZY)
     private String contents;
     private String weather;
 
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private WeatherStatus weatherStatus = WeatherStatus.READY;
+    private int weatherAttempts;          // 날씨 조회 실패 횟수
+    private LocalDateTime weatherRetryAt; // 다음 날씨 조회 시각 (백오프)
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -51,4 +68,26 @@ public class Todo extends Timestamped {
         // 작성자를 담당자로 등록
         this.managers.add(new Manager(user, this));
     }
+
+    // 날씨 없이 먼저 저장하고, 백그라운드에서 날씨를 채우는 일정
+    public static Todo withPendingWeather(String title, String contents, User user) {
+        Todo todo = new Todo(title, contents, null, user);
+        todo.weatherStatus = WeatherStatus.PENDING;
+        return todo;
+    }
+
+    public void completeWeather(String weather) {
+        this.weather = weather;
+        this.weatherStatus = WeatherStatus.READY;
+        this.weatherRetryAt = null;
+    }
+
+    // 실패 횟수를 올리고 다음 재시도 시각을 정한다. 재시도 시각이 없으면 더 이상 재시도하지 않는다.
+    public void failWeatherAttempt(LocalDateTime nextRetryAt) {
+        this.weatherAttempts++;
+        this.weatherRetryAt = nextRetryAt;
+        if (nextRetryAt == null) {
+            this.weatherStatus = WeatherStatus.FAILED;
+        }
+    }
 }
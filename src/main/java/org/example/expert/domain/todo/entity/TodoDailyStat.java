@@ -0,0 +1,33 @@
+package org.example.expert.domain.todo.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 작성일 x 날씨별 일정/댓글 수 (대시보드용 집계 테이블).
+ * 일정/댓글 생성 시 TodoDailyStatService 가 upsert 로 증가시키며, 엔티티로 수정하지 않는다.
+ * 댓글 수는 댓글이 달린 일정의 (작성일, 날씨) 에 집계한다.
+ * 날씨가 아직 없는 일정(PENDING/FAILED)은 weather = '' 로 집계한다. (unique 키에 NULL 은 중복 검사가 되지 않음)
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "todo_daily_stats", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_todo_daily_stats_day_weather", columnNames = {"stat_date", "weather"})
+})
+public class TodoDailyStat {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "stat_date", nullable = false) // day 는 예약어
+    private LocalDate day;
+    @Column(nullable = false)
+    private String weather;
+
+    private long todoCount;
+    private long commentCount;
+}
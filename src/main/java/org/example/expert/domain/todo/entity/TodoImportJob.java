@@ -0,0 +1,70 @@
+package org.example.expert.domain.todo.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.example.expert.domain.common.entity.Timestamped;
+import org.example.expert.domain.todo.enums.ImportJobStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 일정 일괄 등록 진행 상황.
+ * 청크가 커밋될 때 같은 트랜잭션에서 처리한 줄 수를 갱신하므로, 중단된 작업은 같은 파일을 다시 올리면
+ * 이미 커밋된 줄을 건너뛰고 이어서 진행할 수 있다.
+ */
+@Getter
+@Entity
+@NoArgsConstructor
+@Table(name = "todo_import_jobs")
+public class TodoImportJob extends Timestamped {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ImportJobStatus status = ImportJobStatus.IN_PROGRESS;
+    private long processedLines;  // 커밋까지 끝난 입력 줄 수 (재개 시 건너뛸 줄 수)
+    private long importedRows;    // 등록된 일정 수
+    private String failureMessage;
+    // 작업을 시작/재개할 때마다 증가. 청크 반영 시 자신이 시작한 attempt 와 다르면 다른 요청이 이어받은 것이다.
+    private int attempt = 1;
+
+    public TodoImportJob(Long userId) {
+        this.userId = userId;
+    }
+
+    public void advance(long processedLines, int importedRows) {
+        this.processedLines = processedLines;
+        this.importedRows += importedRows;
+    }
+
+    public void restart() {
+        this.status = ImportJobStatus.IN_PROGRESS;
+        this.failureMessage = null;
+        this.attempt++;
+    }
+
+    public boolean isOwnedBy(int attempt) {
+        return this.status == ImportJobStatus.IN_PROGRESS && this.attempt == attempt;
+    }
+
+    // 진행 중인데 마지막 청크 반영 이후 staleTimeout 이 지났으면 처리하던 인스턴스가 중단된 것으로 본다.
+    public boolean isStale(LocalDateTime now, Duration staleTimeout) {
+        return getModifiedAt() == null || getModifiedAt().plus(staleTimeout).isBefore(now);
+    }
+
+    public void complete() {
+        this.status = ImportJobStatus.COMPLETED;
+    }
+
+    public void fail(String failureMessage) {
+        this.status = ImportJobStatus.FAILED;
+        this.failureMessage = failureMessage;
+    }
+}
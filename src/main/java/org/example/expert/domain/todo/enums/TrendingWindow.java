@@ -0,0 +1,18 @@
+package org.example.expert.domain.todo.enums;
+
+import org.example.expert.domain.common.exception.InvalidRequestException;
+
+import java.util.Arrays;
+
+// 인기 일정 집계 구간 - HOUR : 최근 60분 (1분 단위), DAY : 최근 24시간 (1시간 단위)
+public enum TrendingWindow {
+    HOUR,
+    DAY;
+
+    public static TrendingWindow of(String window) {
+        return Arrays.stream(TrendingWindow.values())
+                .filter(w -> w.name().equalsIgnoreCase(window))
+                .findFirst()
+                .orElseThrow(() -> new InvalidRequestException("지원하지 않는 집계 구간입니다. (hour, day)"));
+    }
+}
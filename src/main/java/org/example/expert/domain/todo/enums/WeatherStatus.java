@@ -0,0 +1,7 @@
+package org.example.expert.domain.todo.enums;
+
+public enum WeatherStatus {
+    READY,    // 날씨 반영 완료
+    PENDING,  // 비동기 조회 대기 중
+    FAILED    // 재시도 횟수 초과
+}
@@ -1,18 +1,41 @@
 package org.example.expert.domain.todo.repository;
 
 import org.example.expert.domain.todo.dto.TodoSearchCondition;
+import org.example.expert.domain.todo.dto.response.AssignedTodoResponse;
+import org.example.expert.domain.todo.dto.response.MyTodoResponse;
+import org.example.expert.domain.todo.dto.response.TodoExportResponse;
+import org.example.expert.domain.todo.dto.response.TodoSearchFacetsResponse;
 import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
-import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.dto.response.TodoSummaryResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.repository.query.Param;
 
-import java.util.Optional;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
 
 public interface TodoCustomRepository {
 
-    Optional<Todo> findByIdWithUser(Long todoId);
-
     // 새로운 검색 메서드
     Page<TodoSearchResponse> searchTodosList(TodoSearchCondition condition, Pageable pageable);
+
+    // 보관(archive) 일정까지 포함한 검색 - hot/보관 테이블을 UNION ALL 로 합쳐서 정렬/페이징
+    Page<TodoSearchResponse> searchTodosListIncludingArchive(TodoSearchCondition condition, Pageable pageable);
+
+    // 보관 일정까지 포함한 목록 조회 (TodoRepository.searchTodos 와 같은 조건)
+    Page<TodoSummaryResponse> searchTodosIncludingArchive(String weather, LocalDate startDate, LocalDate endDate, Pageable pageable);
+
+    // 검색 결과의 facet 별 건수 (날씨 / 작성 월 / 담당자 상위 managerLimit 명) - 검색과 같은 조건을 한 번의 쿼리로 집계
+    TodoSearchFacetsResponse searchTodoFacets(TodoSearchCondition condition, int managerLimit);
+
+    // 검색 결과 전체를 forward-only 커서로 읽는다. (트랜잭션 안에서 소비 후 close 필요)
+    Stream<TodoExportResponse> streamTodosList(TodoSearchCondition condition, int fetchSize);
+
+    // 내가 작성한 일정 : (createdAt, id) 내림차순 keyset. 커서가 null 이면 첫 페이지
+    List<MyTodoResponse> findMyTodos(Long userId, LocalDateTime cursorCreatedAt, Long cursorId, int limit);
+
+    // 내가 담당자인 일정 : todoId 내림차순 keyset. 커서가 null 이면 첫 페이지
+    List<AssignedTodoResponse> findAssignedTodos(Long userId, Long cursorTodoId, int limit);
 }
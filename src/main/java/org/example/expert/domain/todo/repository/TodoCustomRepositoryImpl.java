@@ -3,11 +3,24 @@ package org.example.expert.domain.todo.repository;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
 import lombok.RequiredArgsConstructor;
 import org.example.expert.domain.todo.dto.TodoSearchCondition;
+import org.example.expert.domain.todo.dto.response.AssignedTodoResponse;
+import org.example.expert.domain.todo.dto.response.MyTodoResponse;
+import org.example.expert.domain.todo.dto.response.QAssignedTodoResponse;
+import org.example.expert.domain.todo.dto.response.QMyTodoResponse;
+import org.example.expert.domain.todo.dto.response.QTodoExportResponse;
 import org.example.expert.domain.todo.dto.response.QTodoSearchResponse;
+import org.example.expert.domain.todo.dto.response.TodoExportResponse;
+import org.example.expert.domain.todo.dto.response.TodoSearchFacetsResponse;
 import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
-import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.dto.response.TodoSummaryResponse;
+import org.example.expert.domain.todo.enums.WeatherStatus;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.support.PageableExecutionUtils;
@@ -15,8 +28,12 @@ import org.springframework.data.support.PageableExecutionUtils;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.stream.Stream;
 
 import static org.example.expert.domain.comment.entity.QComment.comment;
 import static org.example.expert.domain.manager.entity.QManager.manager;
@@ -27,18 +44,7 @@ import static org.example.expert.domain.user.entity.QUser.user;
 public class TodoCustomRepositoryImpl implements TodoCustomRepository {
 
     private final JPAQueryFactory queryFactory;
-
-    @Override
-    public Optional<Todo> findByIdWithUser(Long todoId) {
-        Todo result = queryFactory
-                .selectFrom(todo)
-                // N + 1 문제 해결 위해서 FETCH JOIN 사용
-                .leftJoin(todo.user, user).fetchJoin()
-                .where(todo.id.eq(todoId))
-                .fetchOne();
-
-        return Optional.ofNullable(result);
-    }
+    private final EntityManager entityManager;
 
     @Override
     public Page<TodoSearchResponse> searchTodosList(TodoSearchCondition condition, Pageable pageable) {
@@ -102,6 +108,299 @@ public class TodoCustomRepositoryImpl implements TodoCustomRepository {
         return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
     }
 
+    @Override
+    public Page<TodoSearchResponse> searchTodosListIncludingArchive(TodoSearchCondition condition, Pageable pageable) {
+        /**
+         * SELECT ... FROM todos t ... GROUP BY t.id
+         * UNION ALL
+         * SELECT ... FROM todos_archive t ... GROUP BY t.id
+         * ORDER BY created_at DESC
+         * LIMIT 10 OFFSET 0
+         * -> QueryDSL JPA 는 UNION 을 지원하지 않으므로 HQL 로 작성 (searchTodosList 와 같은 조건/집계)
+         */
+        QueryConditions where = new QueryConditions()
+                .add(condition.getTitle() != null, "t.title LIKE :title ESCAPE '!'", "title", likeContains(condition.getTitle()))
+                .add(condition.getManagerNickname() != null, "m.user.nickname LIKE :nickname ESCAPE '!'", "nickname", likeContains(condition.getManagerNickname()))
+                .add(condition.getStartDate() != null, "t.createdAt >= :start", "start", condition.getStartDate() == null ? null : condition.getStartDate().atStartOfDay())
+                .add(condition.getEndDate() != null, "t.createdAt <= :end", "end", condition.getEndDate() == null ? null : LocalDateTime.of(condition.getEndDate(), LocalTime.MAX));
+
+        String select = "SELECT t.title AS title, COUNT(m) AS managerCount, COUNT(c) AS commentCount, t.createdAt AS createdAt " +
+                "FROM %s t LEFT JOIN t.managers m LEFT JOIN t.comments c" + where + " GROUP BY t.id, t.title, t.createdAt";
+
+        TypedQuery<Tuple> query = entityManager.createQuery(
+                        unionAll(select) + " ORDER BY createdAt DESC",
+                        Tuple.class)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize());
+        where.bind(query);
+
+        List<TodoSearchResponse> content = query.getResultList().stream()
+                .map(row -> new TodoSearchResponse(
+                        row.get("title", String.class),
+                        row.get("managerCount", Long.class),
+                        row.get("commentCount", Long.class)))
+                .toList();
+
+        // 카운트는 테이블별로 구해서 합산
+        String count = "SELECT COUNT(DISTINCT t.id) FROM %s t LEFT JOIN t.managers m" + where;
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> countOf(String.format(count, "Todo"), where) + countOf(String.format(count, "ArchivedTodo"), where));
+    }
+
+    @Override
+    public Page<TodoSummaryResponse> searchTodosIncludingArchive(String weather, LocalDate startDate, LocalDate endDate, Pageable pageable) {
+        QueryConditions where = new QueryConditions()
+                .add(weather != null, "t.weather = :weather", "weather", weather)
+                .add(startDate != null, "DATE(t.modifiedAt) >= :startDate", "startDate", startDate)
+                .add(endDate != null, "DATE(t.modifiedAt) <= :endDate", "endDate", endDate);
+
+        String select = "SELECT t.id AS todoId, t.title AS title, " +
+                "SUBSTRING(t.contents, 1, " + TodoSummaryResponse.PREVIEW_LENGTH + ") AS contentsPreview, " +
+                "CASE WHEN LENGTH(t.contents) > " + TodoSummaryResponse.PREVIEW_LENGTH + " THEN true ELSE false END AS contentsTruncated, " +
+                "t.weather AS weather, t.weatherStatus AS weatherStatus, u.id AS userId, u.email AS userEmail, " +
+                "t.createdAt AS createdAt, t.modifiedAt AS modifiedAt " +
+                "FROM %s t JOIN t.user u" + where;
+
+        TypedQuery<Tuple> query = entityManager.createQuery(
+                        unionAll(select) + " ORDER BY todoId",
+                        Tuple.class)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize());
+        where.bind(query);
+
+        List<TodoSummaryResponse> content = query.getResultList().stream()
+                .map(row -> new TodoSummaryResponse(
+                        row.get("todoId", Long.class),
+                        row.get("title", String.class),
+                        row.get("contentsPreview", String.class),
+                        row.get("contentsTruncated", Boolean.class),
+                        row.get("weather", String.class),
+                        row.get("weatherStatus", WeatherStatus.class),
+                        row.get("userId", Long.class),
+                        row.get("userEmail", String.class),
+                        row.get("createdAt", LocalDateTime.class),
+                        row.get("modifiedAt", LocalDateTime.class)))
+                .toList();
+
+        String count = "SELECT COUNT(t) FROM %s t" + where;
+        return PageableExecutionUtils.getPage(content, pageable,
+                () -> countOf(String.format(count, "Todo"), where) + countOf(String.format(count, "ArchivedTodo"), where));
+    }
+
+    @Override
+    public TodoSearchFacetsResponse searchTodoFacets(TodoSearchCondition condition, int managerLimit) {
+        /**
+         * WITH filtered AS (SELECT id, weather, created_at FROM todos t WHERE ... [UNION ALL ... todos_archive])
+         * SELECT 'weather', ... FROM filtered GROUP BY weather
+         * UNION ALL SELECT 'month', ... FROM filtered GROUP BY 작성 월
+         * UNION ALL (SELECT 'manager', ... FROM filtered JOIN managers ... GROUP BY 담당자 ORDER BY 건수 DESC LIMIT N)
+         * -> 검색 조건은 한 번만 평가하고(CTE 를 여러 번 참조하면 MySQL 은 한 번만 구체화), facet 마다 GROUP BY 만 한다.
+         *    facet 마다 검색을 따로 돌리지 않고 한 번의 쿼리로 끝낸다.
+         * 담당자 닉네임 조건은 검색(managers LEFT JOIN)과 같은 의미로 "닉네임이 일치하는 담당자가 있는 일정" 이다.
+         * 보관 일정은 원본 id 를 유지하므로 todos / todos_archive 의 id 가 겹치지 않는다.
+         */
+        String filtered = filteredTodosSql(condition, "todos", "managers");
+        String managers = "SELECT todo_id, user_id FROM managers";
+        if (condition.isIncludeArchived()) {
+            filtered += " UNION ALL " + filteredTodosSql(condition, "todos_archive", "managers_archive");
+            managers += " UNION ALL SELECT todo_id, user_id FROM managers_archive";
+        }
+
+        String sql = "WITH filtered AS (" + filtered + ") " +
+                "SELECT 'weather' AS facet, f.weather AS weather, NULL AS month_key, NULL AS user_id, NULL AS nickname, COUNT(*) AS cnt " +
+                "FROM filtered f GROUP BY f.weather " +
+                "UNION ALL " +
+                "SELECT 'month', NULL, YEAR(f.created_at) * 100 + MONTH(f.created_at), NULL, NULL, COUNT(*) " +
+                "FROM filtered f GROUP BY YEAR(f.created_at) * 100 + MONTH(f.created_at) " +
+                "UNION ALL " +
+                "(SELECT 'manager', NULL, NULL, u.id, u.nickname, COUNT(*) " +
+                "FROM filtered f JOIN (" + managers + ") m ON m.todo_id = f.id JOIN users u ON u.id = m.user_id " +
+                "GROUP BY u.id, u.nickname ORDER BY COUNT(*) DESC, u.id LIMIT :managerLimit)";
+
+        Query query = entityManager.createNativeQuery(sql)
+                .setParameter("managerLimit", managerLimit);
+        searchConditions(condition, "").bind(query); // 파라미터 값은 UNION 양쪽이 같으므로 한 번만 바인딩
+
+        List<TodoSearchFacetsResponse.ValueCount> weathers = new ArrayList<>();
+        List<TodoSearchFacetsResponse.ValueCount> months = new ArrayList<>();
+        List<TodoSearchFacetsResponse.ManagerCount> managerCounts = new ArrayList<>();
+        for (Object result : query.getResultList()) {
+            Object[] row = (Object[]) result;
+            long count = ((Number) row[5]).longValue();
+            switch ((String) row[0]) {
+                case "weather" -> weathers.add(new TodoSearchFacetsResponse.ValueCount((String) row[1], count));
+                case "month" -> {
+                    int monthKey = ((Number) row[2]).intValue();
+                    months.add(new TodoSearchFacetsResponse.ValueCount(String.format("%04d-%02d", monthKey / 100, monthKey % 100), count));
+                }
+                default -> managerCounts.add(new TodoSearchFacetsResponse.ManagerCount(((Number) row[3]).longValue(), (String) row[4], count));
+            }
+        }
+
+        // 날씨는 건수 순, 월은 최신 월부터 (담당자는 쿼리에서 정렬)
+        weathers.sort(Comparator.comparingLong(TodoSearchFacetsResponse.ValueCount::getCount).reversed());
+        months.sort(Comparator.comparing(TodoSearchFacetsResponse.ValueCount::getValue).reversed());
+        return new TodoSearchFacetsResponse(weathers, months, managerCounts);
+    }
+
+    // facet 용 검색 대상 일정 (searchTodosList 와 같은 조건)
+    private static String filteredTodosSql(TodoSearchCondition condition, String todosTable, String managersTable) {
+        String managerExists = "EXISTS (SELECT 1 FROM " + managersTable + " m JOIN users u ON u.id = m.user_id " +
+                "WHERE m.todo_id = t.id AND u.nickname LIKE :nickname ESCAPE '!')";
+        return "SELECT t.id, t.weather, t.created_at FROM " + todosTable + " t" + searchConditions(condition, managerExists);
+    }
+
+    // 네이티브 SQL 검색 조건 (컬럼명 기준)
+    private static QueryConditions searchConditions(TodoSearchCondition condition, String managerClause) {
+        return new QueryConditions()
+                .add(condition.getTitle() != null, "t.title LIKE :title ESCAPE '!'", "title", likeContains(condition.getTitle()))
+                .add(condition.getManagerNickname() != null, managerClause, "nickname", likeContains(condition.getManagerNickname()))
+                .add(condition.getStartDate() != null, "t.created_at >= :start", "start", condition.getStartDate() == null ? null : condition.getStartDate().atStartOfDay())
+                .add(condition.getEndDate() != null, "t.created_at <= :end", "end", condition.getEndDate() == null ? null : LocalDateTime.of(condition.getEndDate(), LocalTime.MAX));
+    }
+
+    @Override
+    public Stream<TodoExportResponse> streamTodosList(TodoSearchCondition condition, int fetchSize) {
+        // 검색 API 와 같은 조건이지만 offset/count 쿼리 없이 한 번의 쿼리를 커서로 끝까지 읽는다.
+        // 담당자 x 댓글 조인으로 행이 늘어나므로 countDistinct 로 집계
+        return queryFactory
+                .select(new QTodoExportResponse(
+                        todo.id,
+                        todo.title,
+                        todo.weather,
+                        manager.countDistinct(),
+                        comment.countDistinct(),
+                        todo.createdAt
+                ))
+                .from(todo)
+                .leftJoin(todo.managers, manager)
+                .leftJoin(todo.comments, comment)
+                .where(
+                        titleContains(condition.getTitle()),
+                        managerNicknameContains(condition.getManagerNickname()),
+                        createdAtBetween(condition.getStartDate(), condition.getEndDate())
+                )
+                .groupBy(todo.id)
+                .orderBy(todo.createdAt.desc())
+                // 드라이버가 결과 전체를 메모리에 올리지 않도록 fetch size 지정
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .stream();
+    }
+
+    @Override
+    public List<MyTodoResponse> findMyTodos(Long userId, LocalDateTime cursorCreatedAt, Long cursorId, int limit) {
+        /**
+         * SELECT t.id, t.title, t.weather, t.weather_status, t.created_at
+         * FROM todos t
+         * WHERE t.user_id = ?
+         *   AND (t.created_at < ? OR (t.created_at = ? AND t.id < ?))
+         * ORDER BY t.created_at DESC, t.id DESC
+         * LIMIT ?
+         * -> idx_todos_user_created_at_id 인덱스 범위 스캔 (정렬 없이 limit 건만 읽음)
+         */
+        return queryFactory
+                .select(new QMyTodoResponse(
+                        todo.id,
+                        todo.title,
+                        todo.weather,
+                        todo.weatherStatus,
+                        todo.createdAt
+                ))
+                .from(todo)
+                .where(
+                        todo.user.id.eq(userId),
+                        createdAtIdBefore(cursorCreatedAt, cursorId)
+                )
+                .orderBy(todo.createdAt.desc(), todo.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<AssignedTodoResponse> findAssignedTodos(Long userId, Long cursorTodoId, int limit) {
+        /**
+         * SELECT t.id, t.title, t.user_id, t.created_at
+         * FROM managers m
+         * JOIN todos t ON t.id = m.todo_id
+         * WHERE m.user_id = ? AND m.todo_id < ?
+         * ORDER BY m.todo_id DESC
+         * LIMIT ?
+         * -> idx_managers_user_todo 인덱스만으로 대상 todo_id 를 찾고, todos 는 PK 로 limit 건만 조회
+         */
+        return queryFactory
+                .select(new QAssignedTodoResponse(
+                        todo.id,
+                        todo.title,
+                        todo.user.id,
+                        todo.createdAt
+                ))
+                .from(manager)
+                .join(manager.todo, todo)
+                .where(
+                        manager.user.id.eq(userId),
+                        cursorTodoId != null ? manager.todo.id.lt(cursorTodoId) : null
+                )
+                .orderBy(manager.todo.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // keyset 조건 : (createdAt, id) < (cursorCreatedAt, cursorId)
+    // 행 생성자 비교는 MySQL 에서 인덱스 범위로 풀리지 않는 경우가 있어 풀어서 작성
+    private BooleanExpression createdAtIdBefore(LocalDateTime cursorCreatedAt, Long cursorId) {
+        if (cursorCreatedAt == null || cursorId == null) {
+            return null;
+        }
+        return todo.createdAt.lt(cursorCreatedAt)
+                .or(todo.createdAt.eq(cursorCreatedAt).and(todo.id.lt(cursorId)));
+    }
+
+    // 괄호로 감싸지 않으면 뒤에 붙는 ORDER BY / LIMIT 이 마지막(보관) 쿼리에만 적용된다.
+    private static String unionAll(String select) {
+        return "(" + String.format(select, "Todo") + " UNION ALL " + String.format(select, "ArchivedTodo") + ")";
+    }
+
+    private long countOf(String hql, QueryConditions where) {
+        TypedQuery<Long> query = entityManager.createQuery(hql, Long.class);
+        where.bind(query);
+        return query.getSingleResult();
+    }
+
+    // QueryDSL contains() 와 같은 부분 일치 (LIKE 특수문자 이스케이프)
+    private static String likeContains(String value) {
+        if (value == null) {
+            return null;
+        }
+        return "%" + value.replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%";
+    }
+
+    /**
+     * UNION 양쪽(hot/보관) 쿼리에 같은 WHERE 절을 붙이기 위한 조건 모음 (HQL / 네이티브 SQL)
+     */
+    private static class QueryConditions {
+
+        private final List<String> clauses = new ArrayList<>();
+        private final Map<String, Object> parameters = new LinkedHashMap<>();
+
+        QueryConditions add(boolean present, String clause, String name, Object value) {
+            if (present) {
+                clauses.add(clause);
+                parameters.put(name, value);
+            }
+            return this;
+        }
+
+        void bind(Query query) {
+            parameters.forEach(query::setParameter);
+        }
+
+        @Override
+        public String toString() {
+            return clauses.isEmpty() ? "" : " WHERE " + String.join(" AND ", clauses);
+        }
+    }
+
     // 동적 쿼리 조건 메서드
     private BooleanExpression titleContains(String title) {
         return title != null ? todo.title.contains(title) : null;
@@ -0,0 +1,23 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.domain.todo.dto.response.TodoDailyStatResponse;
+import org.example.expert.domain.todo.entity.TodoDailyStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface TodoDailyStatRepository extends JpaRepository<TodoDailyStat, Long> {
+
+    @Query("SELECT new org.example.expert.domain.todo.dto.response.TodoDailyStatResponse(s.day, s.weather, s.todoCount, s.commentCount) " +
+            "FROM TodoDailyStat s " +
+            "WHERE s.day BETWEEN :startDate AND :endDate " +
+            "AND (:weather IS NULL OR s.weather = :weather) " +
+            "AND (s.todoCount > 0 OR s.commentCount > 0) " +
+            "ORDER BY s.day, s.weather")
+    List<TodoDailyStatResponse> findResponses(@Param("startDate") LocalDate startDate,
+                                              @Param("endDate") LocalDate endDate,
+                                              @Param("weather") String weather);
+}
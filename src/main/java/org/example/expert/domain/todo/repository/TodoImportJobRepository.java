@@ -0,0 +1,18 @@
+package org.example.expert.domain.todo.repository;
+
+import jakarta.persistence.LockModeType;
+import org.example.expert.domain.todo.entity.TodoImportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface TodoImportJobRepository extends JpaRepository<TodoImportJob, Long> {
+
+    // 같은 작업에 대한 시작/청크 반영/종료를 직렬화한다. (SELECT ... FOR UPDATE)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT j FROM TodoImportJob j WHERE j.id = :jobId")
+    Optional<TodoImportJob> findByIdForUpdate(@Param("jobId") Long jobId);
+}
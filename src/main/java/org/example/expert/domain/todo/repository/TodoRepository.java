@@ -1,27 +1,93 @@
 package org.example.expert.domain.todo.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.dto.response.TodoSummaryResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.WeatherStatus;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface TodoRepository extends JpaRepository<Todo, Long>, TodoCustomRepository {
 
     // 할 일 검색시 weather 조건으로도 검색하거나 수정일 기준 기간의 시작과 끝 검색하도록 JPQL 수정
-    @Query("SELECT t FROM Todo t " +
+    // 목록에서는 본문 전체 대신 미리보기만 조회 (엔티티를 로딩하지 않는 DTO 프로젝션)
+    @Query(value = "SELECT new org.example.expert.domain.todo.dto.response.TodoSummaryResponse(" +
+            "t.id, t.title, SUBSTRING(t.contents, 1, " + TodoSummaryResponse.PREVIEW_LENGTH + "), " +
+            "CASE WHEN LENGTH(t.contents) > " + TodoSummaryResponse.PREVIEW_LENGTH + " THEN true ELSE false END, " +
+            "t.weather, t.weatherStatus, u.id, u.email, t.createdAt, t.modifiedAt) " +
+            "FROM Todo t JOIN t.user u " +
             "WHERE (:weather IS NULL OR t.weather = :weather) " +
             // modifiedAt이 LocalDateTime형식이어서 LocalDate형식 맞추기 위해 JPQL에서 DATE() 함수 사용
             "AND (:startDate IS NULL OR DATE(t.modifiedAt) >= :startDate) " +
-            "AND (:endDate IS NULL OR DATE(t.modifiedAt) <= :endDate)")
-    Page<Todo> searchTodos(
+            "AND (:endDate IS NULL OR DATE(t.modifiedAt) <= :endDate)",
+            countQuery = "SELECT COUNT(t) FROM Todo t " +
+                    "WHERE (:weather IS NULL OR t.weather = :weather) " +
+                    "AND (:startDate IS NULL OR DATE(t.modifiedAt) >= :startDate) " +
+                    "AND (:endDate IS NULL OR DATE(t.modifiedAt) <= :endDate)")
+    Page<TodoSummaryResponse> searchTodos(
             @Param("weather") String weather,
             @Param("startDate") LocalDate startDate,
             @Param("endDate") LocalDate endDate,
             Pageable pageable
     );
+
+    // 상세 조회 - 엔티티를 영속성 컨텍스트에 올리지 않고 작성자까지 DTO 로 바로 조회 (여러 건은 IN 한 번으로, 순서 보장 없음)
+    @Query("SELECT new org.example.expert.domain.todo.dto.response.TodoResponse(" +
+            "t.id, t.title, t.contents, t.weather, t.weatherStatus, u.id, u.email, t.createdAt, t.modifiedAt) " +
+            "FROM Todo t JOIN t.user u WHERE t.id IN :todoIds")
+    List<TodoResponse> findResponsesByIds(@Param("todoIds") Collection<Long> todoIds);
+
+    // 자동완성 색인 구축용 - 제목만 forward-only 커서로 읽는다. (트랜잭션 안에서 소비 후 close 필요)
+    @Query("SELECT t.title FROM Todo t")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<String> streamTitles();
+
+    // 존재 여부만 확인 (existsById 는 호출마다 쿼리 문자열을 새로 만든다)
+    @Query("SELECT COUNT(t) > 0 FROM Todo t WHERE t.id = :todoId")
+    boolean existsTodoById(@Param("todoId") Long todoId);
+
+    // ETag 용 버전 조회 - 엔티티(연관관계 포함)를 로딩하지 않고 수정일만 조회
+    @Query("SELECT t.modifiedAt FROM Todo t WHERE t.id = :todoId")
+    Optional<LocalDateTime> findModifiedAtById(@Param("todoId") Long todoId);
+
+    // 날씨 비동기 조회 대상 : 해당 상태이면서 재시도 시각이 지난 일정 (오래된 순)
+    @Query("SELECT t FROM Todo t " +
+            "WHERE t.weatherStatus = :status " +
+            "AND (t.weatherRetryAt IS NULL OR t.weatherRetryAt <= :now) " +
+            "ORDER BY t.id")
+    List<Todo> findWeatherTargets(
+            @Param("status") WeatherStatus status,
+            @Param("now") LocalDateTime now,
+            Pageable pageable
+    );
+
+    long countByWeatherStatus(WeatherStatus weatherStatus);
+
+    // 날씨 반영 : 일별 집계를 옮기는 동안 댓글이 추가되지 않도록 잠근다. (id 순으로 잠가서 인스턴스끼리 데드락 방지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Todo t WHERE t.id IN :todoIds ORDER BY t.id")
+    List<Todo> findAllByIdForUpdate(@Param("todoIds") Collection<Long> todoIds);
+
+    // 댓글 등록 : 집계할 날씨를 읽는 동안 날씨 반영이 끼어들지 않도록 공유 잠금 (댓글끼리는 막지 않음)
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT t FROM Todo t WHERE t.id = :todoId")
+    Optional<Todo> findByIdForShare(@Param("todoId") Long todoId);
 }
@@ -0,0 +1,75 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.cache.TodoDetailsChangedEvent;
+import org.example.expert.domain.todo.cache.TodosChangedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 오래된 일정을 보관 테이블로 옮기는 트랜잭션 단위 작업 (배치 하나 = 트랜잭션 하나).
+ * 엔티티를 읽어서 옮기지 않고 INSERT ... SELECT / DELETE 로 DB 안에서 바로 이동한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TodoArchiveService {
+
+    // 대상 일정을 먼저 잠가서, 옮기는 도중에 댓글/담당자가 추가되지 않게 한다. (자식 INSERT 는 부모 행 잠금을 기다림)
+    private static final String SELECT_TARGETS =
+            "SELECT id FROM todos WHERE created_at < :cutoff ORDER BY created_at, id LIMIT :limit FOR UPDATE";
+
+    private static final String ARCHIVE_TODOS =
+            "INSERT INTO todos_archive (id, title, contents, weather, weather_status, weather_attempts, weather_retry_at, user_id, created_at, modified_at, archived_at) " +
+            "SELECT id, title, contents, weather, weather_status, weather_attempts, weather_retry_at, user_id, created_at, modified_at, :archivedAt " +
+            "FROM todos WHERE id IN (:ids)";
+    private static final String ARCHIVE_COMMENTS =
+            "INSERT INTO comments_archive (id, contents, user_id, todo_id, created_at, modified_at) " +
+            "SELECT id, contents, user_id, todo_id, created_at, modified_at FROM comments WHERE todo_id IN (:ids)";
+    private static final String ARCHIVE_MANAGERS =
+            "INSERT INTO managers_archive (id, user_id, todo_id) " +
+            "SELECT id, user_id, todo_id FROM managers WHERE todo_id IN (:ids)";
+
+    private static final String DELETE_COMMENTS = "DELETE FROM comments WHERE todo_id IN (:ids)";
+    private static final String DELETE_MANAGERS = "DELETE FROM managers WHERE todo_id IN (:ids)";
+    private static final String DELETE_TODOS = "DELETE FROM todos WHERE id IN (:ids)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * @return 보관한 일정 수 (batchSize 보다 작으면 더 옮길 일정이 없음)
+     */
+    @Transactional
+    public int archiveBatch(LocalDateTime cutoff, int batchSize) {
+        List<Long> todoIds = jdbcTemplate.queryForList(SELECT_TARGETS,
+                new MapSqlParameterSource()
+                        .addValue("cutoff", cutoff)
+                        .addValue("limit", batchSize),
+                Long.class);
+        if (todoIds.isEmpty()) {
+            return 0;
+        }
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", todoIds)
+                .addValue("archivedAt", LocalDateTime.now());
+
+        // 부모 -> 자식 순으로 복사하고, 자식 -> 부모 순으로 삭제 (FK)
+        jdbcTemplate.update(ARCHIVE_TODOS, params);
+        jdbcTemplate.update(ARCHIVE_COMMENTS, params);
+        jdbcTemplate.update(ARCHIVE_MANAGERS, params);
+        jdbcTemplate.update(DELETE_COMMENTS, params);
+        jdbcTemplate.update(DELETE_MANAGERS, params);
+        jdbcTemplate.update(DELETE_TODOS, params);
+
+        eventPublisher.publishEvent(new TodosChangedEvent()); // 기본 검색 결과에서 빠짐
+        eventPublisher.publishEvent(new TodoDetailsChangedEvent(todoIds)); // 상세 조회 대상에서 빠짐
+        return todoIds.size();
+    }
+}
@@ -0,0 +1,70 @@
+package org.example.expert.domain.todo.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 보관 기간(todo.archive.age)이 지난 일정을 댓글/담당자와 함께 보관 테이블로 옮기는 백그라운드 작업.
+ * 검색 트래픽은 대부분 최근 일정이므로, 기본 조회는 작은 hot 테이블(todos/comments/managers)만 보게 된다.
+ * 한 번 실행에 최대 max-batches-per-run 개의 배치만 처리해서 잠금/트랜잭션 크기를 제한한다.
+ */
+@Slf4j
+@Component
+public class TodoArchiveWorker {
+
+    private final TodoArchiveService todoArchiveService;
+    private final Counter archivedCounter;
+
+    @Value("${todo.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${todo.archive.age:365d}")
+    private Duration age;
+
+    @Value("${todo.archive.batch-size:500}")
+    private int batchSize;
+
+    @Value("${todo.archive.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    public TodoArchiveWorker(TodoArchiveService todoArchiveService, MeterRegistry meterRegistry) {
+        this.todoArchiveService = todoArchiveService;
+        this.archivedCounter = meterRegistry.counter("todo.archive.archived");
+    }
+
+    @Scheduled(fixedDelayString = "${todo.archive.interval:600000}", initialDelayString = "${todo.archive.interval:600000}")
+    public void archiveOldTodos() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDateTime cutoff = LocalDateTime.now().minus(age);
+        long archived = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            int count;
+            try {
+                count = todoArchiveService.archiveBatch(cutoff, batchSize);
+            } catch (RuntimeException e) {
+                // 잠금 대기 시간 초과 등 - 해당 배치는 롤백되고 다음 실행에서 다시 시도
+                log.warn("Todo archive batch failed, 일정 보관에 실패했습니다. : {}", e.getMessage());
+                break;
+            }
+            archived += count;
+            archivedCounter.increment(count);
+            if (count < batchSize) {
+                break;
+            }
+        }
+
+        if (archived > 0) {
+            log.info("Archived {} todos created before {}", archived, cutoff);
+        }
+    }
+}
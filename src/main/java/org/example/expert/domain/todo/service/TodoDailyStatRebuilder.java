@@ -0,0 +1,44 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.response.TodoDailyStatRebuildResponse;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+
+/**
+ * 일별 집계 재계산 (backfill). 기간 전체를 하나의 트랜잭션으로 묶지 않고 하루씩 커밋한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TodoDailyStatRebuilder {
+
+    private final TodoDailyStatService todoDailyStatService;
+
+    /**
+     * @param startDate null 이면 가장 오래된 일정의 작성일부터
+     * @param endDate   null 이면 오늘까지
+     */
+    public TodoDailyStatRebuildResponse rebuild(LocalDate startDate, LocalDate endDate) {
+        LocalDate end = endDate != null ? endDate : LocalDate.now();
+        LocalDate start = startDate != null ? startDate : todoDailyStatService.findFirstDay();
+        if (start == null) {
+            return new TodoDailyStatRebuildResponse(null, end, 0); // 일정이 하나도 없음
+        }
+        if (start.isAfter(end)) {
+            throw new InvalidRequestException("startDate 는 endDate 보다 늦을 수 없습니다.");
+        }
+
+        int days = 0;
+        for (LocalDate day = start; !day.isAfter(end); day = day.plusDays(1)) {
+            todoDailyStatService.rebuildDay(day);
+            days++;
+        }
+
+        log.info("todo daily stats rebuilt : {} ~ {} ({} days)", start, end, days);
+        return new TodoDailyStatRebuildResponse(start, end, days);
+    }
+}
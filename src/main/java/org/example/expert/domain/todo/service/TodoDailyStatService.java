@@ -0,0 +1,137 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.dto.response.TodoDailyStatResponse;
+import org.example.expert.domain.todo.repository.TodoDailyStatRepository;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 작성일 x 날씨별 일정/댓글 수 집계 (todo_daily_stats).
+ * 대시보드가 todos 를 GROUP BY 로 매번 풀 스캔하지 않도록, 생성 시점에 집계 행을 원자적으로 증가시킨다.
+ * 증가분은 호출한 트랜잭션 안에서 반영되므로 일정/댓글 저장과 함께 커밋/롤백된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TodoDailyStatService {
+
+    // 행이 없으면 만들고, 있으면 그 자리에서 더한다. (읽고 쓰지 않으므로 동시 증가에도 유실 없음)
+    private static final String UPSERT =
+            "INSERT INTO todo_daily_stats (stat_date, weather, todo_count, comment_count) " +
+            "VALUES (:day, :weather, :todoDelta, :commentDelta) " +
+            "ON DUPLICATE KEY UPDATE todo_count = todo_count + :todoDelta, comment_count = comment_count + :commentDelta";
+
+    private static final String DELETE_DAY = "DELETE FROM todo_daily_stats WHERE stat_date = :day";
+    // 보관된 일정도 작성일 기준 집계에 포함된다. (보관은 집계 값을 바꾸지 않음)
+    private static final String REBUILD_DAY =
+            "INSERT INTO todo_daily_stats (stat_date, weather, todo_count, comment_count) " +
+            "SELECT :day, t.weather, COUNT(*), SUM(t.comment_count) FROM (" +
+            "  SELECT COALESCE(weather, '') AS weather, (SELECT COUNT(*) FROM comments c WHERE c.todo_id = todos.id) AS comment_count " +
+            "  FROM todos WHERE created_at >= :from AND created_at < :to " +
+            "  UNION ALL " +
+            "  SELECT COALESCE(weather, '') AS weather, (SELECT COUNT(*) FROM comments_archive c WHERE c.todo_id = todos_archive.id) AS comment_count " +
+            "  FROM todos_archive WHERE created_at >= :from AND created_at < :to" +
+            ") t GROUP BY t.weather";
+    private static final String FIRST_DAY =
+            "SELECT MIN(created_at) FROM (" +
+            "  SELECT MIN(created_at) AS created_at FROM todos UNION ALL SELECT MIN(created_at) FROM todos_archive" +
+            ") t";
+    private static final String COUNT_COMMENTS_BY_TODO =
+            "SELECT todo_id, COUNT(*) AS comment_count FROM comments WHERE todo_id IN (:todoIds) GROUP BY todo_id";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TodoDailyStatRepository todoDailyStatRepository;
+
+    public void increment(LocalDateTime createdAt, String weather, long todoDelta, long commentDelta) {
+        jdbcTemplate.update(UPSERT, params(new Increment(createdAt.toLocalDate(), weather, todoDelta, commentDelta)));
+    }
+
+    /**
+     * 여러 행을 한 번에 증가시킨다. (일괄 등록, 날씨 반영)
+     * 트랜잭션끼리 행 잠금 순서가 엇갈리면 데드락이 나므로 (day, weather) 순으로 합쳐서 반영한다.
+     */
+    public void incrementAll(Collection<Increment> increments) {
+        Map<Increment, long[]> merged = new TreeMap<>(Comparator.comparing(Increment::day).thenComparing(Increment::weatherKey));
+        for (Increment increment : increments) {
+            long[] deltas = merged.computeIfAbsent(increment, key -> new long[2]);
+            deltas[0] += increment.todoDelta();
+            deltas[1] += increment.commentDelta();
+        }
+
+        MapSqlParameterSource[] batch = merged.entrySet().stream()
+                .filter(entry -> entry.getValue()[0] != 0 || entry.getValue()[1] != 0)
+                .map(entry -> params(new Increment(entry.getKey().day(), entry.getKey().weather(), entry.getValue()[0], entry.getValue()[1])))
+                .toArray(MapSqlParameterSource[]::new);
+        if (batch.length > 0) {
+            jdbcTemplate.batchUpdate(UPSERT, batch);
+        }
+    }
+
+    // 일정별 댓글 수 (날씨 반영 시 댓글 수를 함께 옮기기 위함)
+    public Map<Long, Long> countCommentsByTodoId(Collection<Long> todoIds) {
+        Map<Long, Long> counts = new HashMap<>();
+        if (todoIds.isEmpty()) {
+            return counts;
+        }
+        jdbcTemplate.query(COUNT_COMMENTS_BY_TODO, new MapSqlParameterSource("todoIds", todoIds),
+                rs -> {
+                    counts.put(rs.getLong("todo_id"), rs.getLong("comment_count"));
+                });
+        return counts;
+    }
+
+    @Transactional(readOnly = true)
+    public List<TodoDailyStatResponse> getDailyStats(LocalDate startDate, LocalDate endDate, String weather) {
+        return todoDailyStatRepository.findResponses(startDate, endDate, weather);
+    }
+
+    /**
+     * 하루치 집계를 원본(todos + todos_archive)에서 다시 계산한다. (backfill / 보정용, 하루 = 트랜잭션 하나)
+     * 집계 행을 지우고 다시 쓰는 동안 그날의 증가는 잠금을 기다린다. (오늘 날짜는 트래픽이 적을 때 실행)
+     */
+    @Transactional
+    public void rebuildDay(LocalDate day) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("day", Date.valueOf(day))
+                .addValue("from", day.atStartOfDay())
+                .addValue("to", day.plusDays(1).atStartOfDay());
+
+        jdbcTemplate.update(DELETE_DAY, params);
+        jdbcTemplate.update(REBUILD_DAY, params);
+    }
+
+    // 가장 오래된 일정의 작성일 (일정이 없으면 null)
+    @Transactional(readOnly = true)
+    public LocalDate findFirstDay() {
+        LocalDateTime first = jdbcTemplate.getJdbcTemplate().queryForObject(FIRST_DAY, LocalDateTime.class);
+        return first != null ? first.toLocalDate() : null;
+    }
+
+    private MapSqlParameterSource params(Increment increment) {
+        return new MapSqlParameterSource()
+                .addValue("day", Date.valueOf(increment.day()))
+                .addValue("weather", increment.weatherKey())
+                .addValue("todoDelta", increment.todoDelta())
+                .addValue("commentDelta", increment.commentDelta());
+    }
+
+    public record Increment(LocalDate day, String weather, long todoDelta, long commentDelta) {
+
+        // 날씨가 아직 없는 일정은 '' 로 집계 (TodoDailyStat 참고)
+        String weatherKey() {
+            return weather != null ? weather : "";
+        }
+    }
+}
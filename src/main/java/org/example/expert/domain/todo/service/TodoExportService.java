@@ -0,0 +1,119 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.dto.TodoSearchCondition;
+import org.example.expert.domain.todo.dto.response.TodoExportResponse;
+import org.example.expert.domain.todo.enums.ExportFormat;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 일정 검색 결과를 NDJSON / CSV 로 내보낸다.
+ * 페이지 단위로 모으지 않고 DB 커서에서 한 행씩 읽어 바로 응답 스트림에 쓰기 때문에
+ * 결과 행 수와 상관없이 메모리 사용량이 일정하다.
+ */
+@Slf4j
+@Service
+public class TodoExportService {
+
+    private static final String CSV_HEADER = "id,title,weather,managerCount,commentCount,createdAt";
+
+    private final TodoRepository todoRepository;
+    private final EntityManager em;
+    private final ObjectWriter ndjsonWriter;
+    private final int fetchSize;
+    private final int clearInterval;
+
+    public TodoExportService(
+            TodoRepository todoRepository,
+            EntityManager em,
+            ObjectMapper objectMapper,
+            @Value("${todo.export.fetch-size:1000}") int fetchSize,
+            @Value("${todo.export.clear-interval:1000}") int clearInterval
+    ) {
+        this.todoRepository = todoRepository;
+        this.em = em;
+        // 한 행씩 쓰므로 매번 스트림이 닫히지 않도록 AUTO_CLOSE_TARGET 해제
+        this.ndjsonWriter = objectMapper.writerFor(TodoExportResponse.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.fetchSize = fetchSize;
+        this.clearInterval = clearInterval;
+    }
+
+    // StreamingResponseBody 스레드에서 호출되며, 커서를 다 읽을 때까지 읽기 전용 트랜잭션(커넥션)을 유지한다.
+    @Transactional(readOnly = true)
+    public long export(TodoSearchCondition condition, ExportFormat format, OutputStream outputStream) throws IOException {
+        long startNanos = System.nanoTime();
+        long rows = 0;
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        try (Stream<TodoExportResponse> stream = todoRepository.streamTodosList(condition, fetchSize)) {
+            Iterator<TodoExportResponse> iterator = stream.iterator();
+            while (iterator.hasNext()) {
+                TodoExportResponse row = iterator.next();
+                if (format == ExportFormat.CSV) {
+                    writeCsv(writer, row);
+                } else {
+                    ndjsonWriter.writeValue(writer, row);
+                    writer.write('\n');
+                }
+
+                // DTO 프로젝션이라 엔티티가 쌓이지는 않지만, 긴 스트림 동안 영속성 컨텍스트가 커지지 않도록 주기적으로 비운다.
+                if (++rows % clearInterval == 0) {
+                    em.clear();
+                }
+            }
+        }
+        writer.flush();
+
+        log.info("todo export 완료 - format: {}, rows: {}, elapsed: {}ms",
+                format, rows, (System.nanoTime() - startNanos) / 1_000_000);
+        return rows;
+    }
+
+    private void writeCsv(Writer writer, TodoExportResponse row) throws IOException {
+        writer.write(String.valueOf(row.getId()));
+        writer.write(',');
+        writer.write(escapeCsv(row.getTitle()));
+        writer.write(',');
+        writer.write(escapeCsv(row.getWeather()));
+        writer.write(',');
+        writer.write(String.valueOf(row.getManagerCount()));
+        writer.write(',');
+        writer.write(String.valueOf(row.getCommentCount()));
+        writer.write(',');
+        writer.write(row.getCreatedAt() == null ? "" : row.getCreatedAt().toString());
+        writer.write('\n');
+    }
+
+    // RFC 4180 - 쉼표, 따옴표, 줄바꿈이 있으면 따옴표로 감싸고 따옴표는 두 번 쓴다.
+    private String escapeCsv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,174 @@
+package org.example.expert.domain.todo.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.ConflictException;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.request.TodoImportRequest;
+import org.example.expert.domain.todo.dto.response.TodoImportResponse;
+import org.example.expert.domain.todo.entity.TodoImportJob;
+import org.example.expert.domain.todo.enums.ImportJobStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * NDJSON 파일을 스트림으로 읽어서 청크 단위로 일정을 일괄 등록한다.
+ * - 날씨 API 는 일정마다 호출하지 않고, 새로 등장한 날짜만 모아서 청크당 최대 한 번 호출한다.
+ * - 청크마다 커밋하고 진행 상황(처리한 줄 수)을 남기므로, 실패하거나 끊긴 작업은 jobId 로 재개할 수 있다.
+ * 트랜잭션은 TodoImportWriter 에서 청크 단위로 열린다. (이 클래스는 트랜잭션 없음)
+ */
+@Slf4j
+@Service
+public class TodoImportService {
+
+    private final TodoImportWriter todoImportWriter;
+    private final WeatherClient weatherClient;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+
+    public TodoImportService(
+            TodoImportWriter todoImportWriter,
+            WeatherClient weatherClient,
+            ObjectMapper objectMapper,
+            @Value("${todo.import.chunk-size:1000}") int chunkSize
+    ) {
+        this.todoImportWriter = todoImportWriter;
+        this.weatherClient = weatherClient;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+    }
+
+    public TodoImportResponse importTodos(AuthUser authUser, Long jobId, InputStream inputStream) {
+        long startNanos = System.nanoTime();
+        TodoImportJob job = todoImportWriter.startJob(authUser.getId(), jobId);
+        if (job.getStatus() == ImportJobStatus.COMPLETED) {
+            return toResponse(job, 0, startNanos);
+        }
+
+        long importedBefore = job.getImportedRows();
+        try {
+            job = importLines(job, authUser.getId(), inputStream);
+        } catch (ConflictException e) {
+            // 중단된 것으로 판단되어 다른 요청이 이어받았다. 이 요청은 더 이상 쓰지 않는다.
+            log.warn("todo import 중단 - jobId: {}, 다른 요청이 이어받음", job.getId());
+            throw e;
+        } catch (InvalidRequestException e) {
+            todoImportWriter.failJob(job.getId(), job.getAttempt(), e.getMessage());
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            // 이미 커밋된 청크는 유지되고, 같은 jobId 로 다시 요청하면 이어서 진행한다.
+            log.warn("todo import 중단 - jobId: {}, error: {}", job.getId(), e.getMessage());
+            todoImportWriter.failJob(job.getId(), job.getAttempt(), e.getMessage());
+            throw new InvalidRequestException("일괄 등록이 중단되었습니다. jobId " + job.getId() + " 로 재시도하면 이어서 진행합니다.");
+        }
+
+        TodoImportResponse response = toResponse(job, job.getImportedRows() - importedBefore, startNanos);
+        log.info("todo import 완료 - jobId: {}, rows: {}, elapsed: {}ms, {} rows/s",
+                job.getId(), job.getImportedRows() - importedBefore, response.getElapsedMillis(), response.getRowsPerSecond());
+        return response;
+    }
+
+    private TodoImportJob importLines(TodoImportJob job, Long userId, InputStream inputStream) throws IOException {
+        long skipLines = job.getProcessedLines();
+        long lineNumber = 0;
+
+        Map<LocalDate, String> weatherByDate = new HashMap<>();
+        Set<LocalDate> resolvedDates = new HashSet<>();  // 날씨를 찾지 못한 날짜도 다시 조회하지 않는다.
+        List<TodoImportRequest> chunk = new ArrayList<>(chunkSize);
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            // 재개 : 이전 요청에서 커밋된 줄은 건너뛴다.
+            if (lineNumber <= skipLines || !StringUtils.hasText(line)) {
+                continue;
+            }
+
+            chunk.add(parseLine(line, lineNumber, job.getId()));
+            if (chunk.size() == chunkSize) {
+                job = writeChunk(job, userId, chunk, weatherByDate, resolvedDates, lineNumber);
+                chunk.clear();
+            }
+        }
+
+        job = writeChunk(job, userId, chunk, weatherByDate, resolvedDates, Math.max(lineNumber, skipLines));
+        return todoImportWriter.completeJob(job.getId(), job.getAttempt());
+    }
+
+    private TodoImportJob writeChunk(TodoImportJob job, Long userId, List<TodoImportRequest> chunk,
+                                     Map<LocalDate, String> weatherByDate, Set<LocalDate> resolvedDates, long processedLines) {
+        resolveWeathers(chunk, weatherByDate, resolvedDates);
+        return todoImportWriter.writeChunk(job.getId(), job.getAttempt(), userId, chunk, weatherByDate, processedLines);
+    }
+
+    // 이번 청크에서 처음 나온 날짜만 한 번에 조회
+    private void resolveWeathers(List<TodoImportRequest> chunk, Map<LocalDate, String> weatherByDate, Set<LocalDate> resolvedDates) {
+        Set<LocalDate> newDates = new HashSet<>();
+        for (TodoImportRequest row : chunk) {
+            LocalDate date = row.getCreatedAt().toLocalDate();
+            if (!resolvedDates.contains(date)) {
+                newDates.add(date);
+            }
+        }
+        if (newDates.isEmpty()) {
+            return;
+        }
+
+        try {
+            weatherByDate.putAll(weatherClient.getWeathers(newDates));
+        } catch (RuntimeException e) {
+            // 날씨 API 장애로 등록을 멈추지 않는다. 해당 일정은 PENDING 으로 저장되어 백그라운드에서 채워진다.
+            log.warn("todo import 날씨 조회 실패 - dates: {}, error: {}", newDates.size(), e.getMessage());
+        }
+        resolvedDates.addAll(newDates);
+    }
+
+    private TodoImportRequest parseLine(String line, long lineNumber, Long jobId) {
+        TodoImportRequest row;
+        try {
+            row = objectMapper.readValue(line, TodoImportRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new InvalidRequestException(lineNumber + "번째 줄의 형식이 올바르지 않습니다. (jobId: " + jobId + ")");
+        }
+
+        if (!StringUtils.hasText(row.getTitle()) || !StringUtils.hasText(row.getContents())) {
+            throw new InvalidRequestException(lineNumber + "번째 줄의 title, contents 는 필수입니다. (jobId: " + jobId + ")");
+        }
+        if (row.getCreatedAt() == null) {
+            row.setCreatedAt(LocalDateTime.now());
+        }
+        return row;
+    }
+
+    private TodoImportResponse toResponse(TodoImportJob job, long importedRows, long startNanos) {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        double rowsPerSecond = elapsedNanos == 0 ? 0 : importedRows * 1_000_000_000.0 / elapsedNanos;
+        return new TodoImportResponse(
+                job.getId(),
+                job.getStatus(),
+                job.getProcessedLines(),
+                job.getImportedRows(),
+                elapsedNanos / 1_000_000,
+                Math.round(rowsPerSecond * 10) / 10.0
+        );
+    }
+}
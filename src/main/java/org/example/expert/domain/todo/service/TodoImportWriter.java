@@ -0,0 +1,182 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.domain.common.exception.ConflictException;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.autocomplete.TodoTitlesAddedEvent;
+import org.example.expert.domain.todo.cache.TodosChangedEvent;
+import org.example.expert.domain.todo.dto.request.TodoImportRequest;
+import org.example.expert.domain.todo.entity.TodoImportJob;
+import org.example.expert.domain.todo.enums.ImportJobStatus;
+import org.example.expert.domain.todo.enums.WeatherStatus;
+import org.example.expert.domain.todo.repository.TodoImportJobRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일정 일괄 등록의 트랜잭션 단위 작업.
+ * 청크 하나(일정 + 작성자 담당자 등록 + 진행 상황 갱신)가 하나의 트랜잭션으로 커밋된다.
+ * JPA 의 IDENTITY 전략은 insert 를 배치로 묶지 못하므로 JdbcTemplate batchUpdate 로 직접 저장한다.
+ * (MySQL 은 URL 에 rewriteBatchedStatements=true 가 있어야 multi-row insert 로 전송된다.)
+ */
+@Service
+public class TodoImportWriter {
+
+    private static final String INSERT_TODO =
+            "INSERT INTO todos (title, contents, weather, weather_status, weather_attempts, user_id, created_at, modified_at) " +
+            "VALUES (?, ?, ?, ?, 0, ?, ?, ?)";
+    private static final String INSERT_MANAGER =
+            "INSERT INTO managers (user_id, todo_id) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TodoImportJobRepository todoImportJobRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TodoDailyStatService todoDailyStatService;
+    private final Duration staleTimeout;
+
+    public TodoImportWriter(
+            JdbcTemplate jdbcTemplate,
+            TodoImportJobRepository todoImportJobRepository,
+            ApplicationEventPublisher eventPublisher,
+            TodoDailyStatService todoDailyStatService,
+            @Value("${todo.import.stale-timeout:5m}") Duration staleTimeout
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.todoImportJobRepository = todoImportJobRepository;
+        this.eventPublisher = eventPublisher;
+        this.todoDailyStatService = todoDailyStatService;
+        this.staleTimeout = staleTimeout;
+    }
+
+    /**
+     * 새 작업을 만들거나, 실패/중단된 작업을 재개한다. (재개할 때마다 attempt 증가)
+     * 다른 요청이 진행 중인 작업(마지막 청크 반영 후 stale-timeout 이내)은 409 로 거절한다.
+     */
+    @Transactional
+    public TodoImportJob startJob(Long userId, Long jobId) {
+        if (jobId == null) {
+            return todoImportJobRepository.save(new TodoImportJob(userId));
+        }
+
+        TodoImportJob job = todoImportJobRepository.findByIdForUpdate(jobId)
+                .orElseThrow(() -> new InvalidRequestException("Import job not found"));
+        if (!job.getUserId().equals(userId)) {
+            throw new InvalidRequestException("본인이 등록한 import 작업만 재개할 수 있습니다.");
+        }
+        if (job.getStatus() == ImportJobStatus.IN_PROGRESS && !job.isStale(LocalDateTime.now(), staleTimeout)) {
+            throw new ConflictException("이미 진행 중인 import 작업입니다. (jobId: " + jobId + ")");
+        }
+        if (job.getStatus() != ImportJobStatus.COMPLETED) {
+            job.restart();
+        }
+        return job;
+    }
+
+    /**
+     * @param processedLines 이 청크까지 읽은 입력 줄 수
+     * @param weatherByDate  날짜별 날씨 (값이 없는 날짜는 PENDING 으로 저장하여 TodoWeatherEnrichmentWorker 가 채운다)
+     */
+    @Transactional
+    public TodoImportJob writeChunk(Long jobId, int attempt, Long userId, List<TodoImportRequest> rows,
+                                    Map<LocalDate, String> weatherByDate, long processedLines) {
+        TodoImportJob job = lockOwnedJob(jobId, attempt);
+
+        if (!rows.isEmpty()) {
+            List<Long> todoIds = insertTodos(userId, rows, weatherByDate);
+            insertManagers(userId, todoIds);
+            todoDailyStatService.incrementAll(rows.stream()
+                    .map(row -> new TodoDailyStatService.Increment(row.getCreatedAt().toLocalDate(),
+                            weatherByDate.get(row.getCreatedAt().toLocalDate()), 1, 0))
+                    .toList());
+            eventPublisher.publishEvent(new TodosChangedEvent());
+            eventPublisher.publishEvent(new TodoTitlesAddedEvent(rows.stream().map(TodoImportRequest::getTitle).toList()));
+            if (rows.stream().anyMatch(row -> weatherByDate.get(row.getCreatedAt().toLocalDate()) == null)) {
+                eventPublisher.publishEvent(new TodoWeatherPendingEvent());
+            }
+        }
+
+        job.advance(processedLines, rows.size());
+        return job;
+    }
+
+    @Transactional
+    public TodoImportJob completeJob(Long jobId, int attempt) {
+        TodoImportJob job = lockOwnedJob(jobId, attempt);
+        job.complete();
+        return job;
+    }
+
+    // 다른 요청이 이미 이어받은 작업은 실패로 바꾸지 않는다.
+    @Transactional
+    public void failJob(Long jobId, int attempt, String failureMessage) {
+        todoImportJobRepository.findByIdForUpdate(jobId)
+                .filter(job -> job.isOwnedBy(attempt))
+                .ifPresent(job -> job.fail(failureMessage));
+    }
+
+    // 작업 행을 잠그고, 이 요청이 시작한 attempt 가 아니면(stale 로 판단되어 다른 요청이 이어받음) 중단시킨다.
+    private TodoImportJob lockOwnedJob(Long jobId, int attempt) {
+        TodoImportJob job = todoImportJobRepository.findByIdForUpdate(jobId)
+                .orElseThrow(() -> new InvalidRequestException("Import job not found"));
+        if (!job.isOwnedBy(attempt)) {
+            throw new ConflictException("다른 요청이 import 작업을 이어받았습니다. (jobId: " + jobId + ")");
+        }
+        return job;
+    }
+
+    private List<Long> insertTodos(Long userId, List<TodoImportRequest> rows, Map<LocalDate, String> weatherByDate) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.batchUpdate(
+                con -> con.prepareStatement(INSERT_TODO, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        TodoImportRequest row = rows.get(i);
+                        String weather = weatherByDate.get(row.getCreatedAt().toLocalDate());
+                        ps.setString(1, row.getTitle());
+                        ps.setString(2, row.getContents());
+                        ps.setString(3, weather);
+                        ps.setString(4, (weather != null ? WeatherStatus.READY : WeatherStatus.PENDING).name());
+                        ps.setLong(5, userId);
+                        ps.setTimestamp(6, Timestamp.valueOf(row.getCreatedAt()));
+                        ps.setTimestamp(7, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return rows.size();
+                    }
+                },
+                keyHolder
+        );
+
+        // 드라이버마다 키 컬럼 이름이 달라서(ID, GENERATED_KEY) 첫 번째 값을 사용
+        return keyHolder.getKeyList().stream()
+                .map(keys -> ((Number) keys.values().iterator().next()).longValue())
+                .toList();
+    }
+
+    private void insertManagers(Long userId, List<Long> todoIds) {
+        // 작성자를 담당자로 등록 (Todo 생성자와 동일)
+        jdbcTemplate.batchUpdate(INSERT_MANAGER, todoIds, todoIds.size(), (ps, todoId) -> {
+            ps.setLong(1, userId);
+            ps.setLong(2, todoId);
+        });
+    }
+}
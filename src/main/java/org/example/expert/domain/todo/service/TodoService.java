@@ -2,94 +2,249 @@ package org.example.expert.domain.todo.service;
 
 import lombok.RequiredArgsConstructor;
 import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.common.annotation.ConcurrencyLimited;
+import org.example.expert.domain.common.annotation.SingleFlight;
 import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.dto.CursorPageResponse;
 import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.autocomplete.TodoTitleIndex;
+import org.example.expert.domain.todo.cache.TodoDetailCache;
+import org.example.expert.domain.todo.cache.TodoSearchCache;
 import org.example.expert.domain.todo.dto.TodoSearchCondition;
 import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.AssignedTodoResponse;
+import org.example.expert.domain.todo.dto.response.MyTodoResponse;
+import org.example.expert.domain.todo.dto.response.TodoBatchResponse;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
 import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.dto.response.TodoSearchFacetsResponse;
 import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.example.expert.domain.todo.dto.response.TodoSummaryResponse;
+import org.example.expert.domain.todo.dto.response.TodoTitleSuggestionResponse;
+import org.example.expert.domain.todo.dto.response.TrendingTodoResponse;
 import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.TrendingWindow;
 import org.example.expert.domain.todo.repository.TodoRepository;
-import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.todo.trending.TrendingTodoTracker;
 import org.example.expert.domain.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class TodoService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int MAX_BATCH_TODO_IDS = 100;
+    private static final int MAX_MANAGER_FACETS = 20; // 담당자 facet 은 건수 상위 N명만
+
     private final TodoRepository todoRepository;
     private final WeatherClient weatherClient;
+    private final TodoWriter todoWriter;
+    private final TodoDetailCache todoDetailCache;
+    private final TodoSearchCache todoSearchCache;
+    private final TrendingTodoTracker trendingTodoTracker;
+    private final TodoTitleIndex todoTitleIndex;
+
+    // true : 날씨 API 를 기다리지 않고 PENDING 으로 저장 -> TodoWeatherEnrichmentWorker 가 채움
+    @Value("${weather.enrichment.async:false}")
+    private boolean asyncWeatherEnrichment;
 
-    @Transactional
+    // 날씨 API 는 트랜잭션 / 동시 실행 한도 밖에서 호출하고, 저장은 TodoWriter 가 한다.
     public TodoSaveResponse saveTodo(AuthUser authUser, TodoSaveRequest todoSaveRequest) {
         User user = User.fromAuthUser(authUser);
 
-        String weather = weatherClient.getTodayWeather();
-
-        Todo newTodo = new Todo(
-                todoSaveRequest.getTitle(),
-                todoSaveRequest.getContents(),
-                weather,
-                user
-        );
-        Todo savedTodo = todoRepository.save(newTodo);
-
-        return new TodoSaveResponse(
-                savedTodo.getId(),
-                savedTodo.getTitle(),
-                savedTodo.getContents(),
-                weather,
-                new UserResponse(user.getId(), user.getEmail())
-        );
+        Todo newTodo;
+        if (asyncWeatherEnrichment) {
+            newTodo = Todo.withPendingWeather(
+                    todoSaveRequest.getTitle(),
+                    todoSaveRequest.getContents(),
+                    user
+            );
+        } else {
+            newTodo = new Todo(
+                    todoSaveRequest.getTitle(),
+                    todoSaveRequest.getContents(),
+                    weatherClient.getTodayWeather(),
+                    user
+            );
+        }
+        return todoWriter.save(newTodo);
     }
 
     @Transactional(readOnly = true)
-    public Page<TodoResponse> getTodos(int page, int size, String weather, LocalDate startDate, LocalDate endDate) {
+    @ConcurrencyLimited("read")
+    public Page<TodoSummaryResponse> getTodos(int page, int size, String weather, LocalDate startDate, LocalDate endDate, boolean includeArchived) {
         Pageable pageable = PageRequest.of(page - 1, size);
 
-        Page<Todo> todos = todoRepository.searchTodos(weather, startDate, endDate, pageable);
-
-        return todos.map(todo -> new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(todo.getUser().getId(), todo.getUser().getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        ));
+        if (includeArchived) {
+            return todoRepository.searchTodosIncludingArchive(weather, startDate, endDate, pageable);
+        }
+        return todoRepository.searchTodos(weather, startDate, endDate, pageable);
     }
 
+    /**
+     * 일정 상세 조회
+     * @param modifiedAt ETag 용으로 먼저 읽은 수정일(getTodoModifiedAt) - 캐시된 상세는 이 값과 같을 때만 사용한다.
+     *                   (다른 인스턴스에서 날씨 반영 등으로 바뀐 경우 다시 조회. 본문은 항상 ETag 의 버전과 같거나 더 최신이다.)
+     */
     @Transactional(readOnly = true)
-    public TodoResponse getTodo(long todoId) {
-        Todo todo = todoRepository.findByIdWithUser(todoId)
-                .orElseThrow(() -> new InvalidRequestException("Todo not found"));
-
-        User user = todo.getUser();
-
-        return new TodoResponse(
-                todo.getId(),
-                todo.getTitle(),
-                todo.getContents(),
-                todo.getWeather(),
-                new UserResponse(user.getId(), user.getEmail()),
-                todo.getCreatedAt(),
-                todo.getModifiedAt()
-        );
+    @SingleFlight("todo")
+    public TodoResponse getTodo(long todoId, LocalDateTime modifiedAt) {
+        TodoResponse todo = todoDetailCache.get(todoId, modifiedAt, todoRepository::findResponsesByIds);
+        if (todo == null) {
+            throw new InvalidRequestException("Todo not found");
+        }
+        return todo;
+    }
+
+    /**
+     * 여러 일정 상세를 요청한 순서대로 조회 (중복 id 는 한 번만)
+     * 캐시에 없는 일정만 IN 쿼리 한 번으로 조회하고, 없는 일정은 missingIds 로 알려준다.
+     */
+    @Transactional(readOnly = true)
+    public TodoBatchResponse getTodosByIds(List<Long> todoIds) {
+        Set<Long> requestedIds = new LinkedHashSet<>(todoIds);
+        if (requestedIds.isEmpty() || requestedIds.size() > MAX_BATCH_TODO_IDS) {
+            throw new InvalidRequestException("ids 는 1 ~ " + MAX_BATCH_TODO_IDS + "개까지 요청할 수 있습니다.");
+        }
+
+        Map<Long, TodoResponse> found = todoDetailCache.getAll(requestedIds, todoRepository::findResponsesByIds);
+
+        List<TodoResponse> todos = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long todoId : requestedIds) {
+            TodoResponse todo = found.get(todoId);
+            if (todo != null) {
+                todos.add(todo);
+            } else {
+                missingIds.add(todoId);
+            }
+        }
+        return new TodoBatchResponse(todos, missingIds);
+    }
+
+    // ETag 용 버전 (일정이 없으면 null)
+    @Transactional(readOnly = true)
+    @SingleFlight("todo.version")
+    public LocalDateTime getTodoModifiedAt(long todoId) {
+        return todoRepository.findModifiedAtById(todoId).orElse(null);
     }
 
     // 새로운 일정 검색 메서드
+    // 같은 조건/페이지는 일정 데이터가 바뀌기 전까지 (다른 인스턴스의 변경 / 레플리카 지연은 최대 ttl 동안) 캐시된 결과 사용
+    // 캐시 키의 버전은 쿼리 전에 읽으므로, 조회 도중 커밋된 변경이 있으면 결과는 이전 버전 키로 저장된다.
     @Transactional(readOnly = true)
+    @ConcurrencyLimited("read")
     public Page<TodoSearchResponse> searchTodosList(TodoSearchCondition condition, int page, int size) {
-        Pageable pageable = PageRequest.of(page - 1, size);
-        return todoRepository.searchTodosList(condition, pageable);
+        return todoSearchCache.getOrLoad(condition, page, size, () -> {
+            Pageable pageable = PageRequest.of(page - 1, size);
+            if (condition.isIncludeArchived()) {
+                return todoRepository.searchTodosListIncludingArchive(condition, pageable);
+            }
+            return todoRepository.searchTodosList(condition, pageable);
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public TodoSearchFacetsResponse searchTodoFacets(TodoSearchCondition condition) {
+        return todoSearchCache.getOrLoadFacets(condition,
+                () -> todoRepository.searchTodoFacets(condition, MAX_MANAGER_FACETS));
+    }
+
+    /**
+     * 최근 구간(hour/day) 댓글 수 기준 인기 일정 - 집계는 TrendingTodoTracker 가 미리 해 두고, 여기서는 상위 limit 개의 제목만 붙인다.
+     * 집계 이후 보관된 일정은 제외된다.
+     */
+    @Transactional(readOnly = true)
+    public List<TrendingTodoResponse> getTrendingTodos(String window, int limit) {
+        if (limit < 1 || limit > trendingTodoTracker.getTopK()) {
+            throw new InvalidRequestException("limit 는 1 ~ " + trendingTodoTracker.getTopK() + " 사이여야 합니다.");
+        }
+
+        List<TrendingTodoTracker.TrendingTodo> ranking = trendingTodoTracker.top(TrendingWindow.of(window), limit);
+        Map<Long, TodoResponse> todos = todoDetailCache.getAll(
+                ranking.stream().map(TrendingTodoTracker.TrendingTodo::todoId).toList(),
+                todoRepository::findResponsesByIds);
+
+        return ranking.stream()
+                .filter(trending -> todos.containsKey(trending.todoId()))
+                .map(trending -> new TrendingTodoResponse(
+                        trending.todoId(),
+                        todos.get(trending.todoId()).getTitle(),
+                        trending.commentCount()))
+                .toList();
+    }
+
+    // 제목 자동완성 (메모리 색인에서 조회, DB 접근 없음) - limit 상한은 색인이 노드마다 들고 있는 제안 수(top-n)
+    public List<TodoTitleSuggestionResponse> autocompleteTitles(String query, Integer limit) {
+        int maxSize = todoTitleIndex.getTopN();
+        if (limit == null) {
+            return todoTitleIndex.suggest(query, maxSize);
+        }
+        if (limit < 1 || limit > maxSize) {
+            throw new InvalidRequestException("limit 는 1 ~ " + maxSize + " 사이여야 합니다.");
+        }
+        return todoTitleIndex.suggest(query, limit);
+    }
+
+    // 내가 작성한 일정 (최신순, keyset) - cursor : "{createdAt}_{id}"
+    @Transactional(readOnly = true)
+    public CursorPageResponse<MyTodoResponse> getMyTodos(AuthUser authUser, String cursor, int size) {
+        int limit = validateCursorPageSize(size);
+
+        LocalDateTime cursorCreatedAt = null;
+        Long cursorId = null;
+        if (StringUtils.hasText(cursor)) {
+            int separator = cursor.lastIndexOf('_');
+            try {
+                cursorCreatedAt = LocalDateTime.parse(cursor.substring(0, separator));
+                cursorId = Long.parseLong(cursor.substring(separator + 1));
+            } catch (RuntimeException e) {
+                throw new InvalidRequestException("잘못된 cursor 입니다.");
+            }
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<MyTodoResponse> rows = todoRepository.findMyTodos(authUser.getId(), cursorCreatedAt, cursorId, limit + 1);
+        return CursorPageResponse.of(rows, limit, row -> row.getCreatedAt() + "_" + row.getId());
+    }
+
+    // 내가 담당자인 일정 (최근 등록된 일정순, keyset) - cursor : "{todoId}"
+    @Transactional(readOnly = true)
+    public CursorPageResponse<AssignedTodoResponse> getAssignedTodos(AuthUser authUser, String cursor, int size) {
+        int limit = validateCursorPageSize(size);
+
+        Long cursorTodoId = null;
+        if (StringUtils.hasText(cursor)) {
+            try {
+                cursorTodoId = Long.parseLong(cursor);
+            } catch (NumberFormatException e) {
+                throw new InvalidRequestException("잘못된 cursor 입니다.");
+            }
+        }
+
+        List<AssignedTodoResponse> rows = todoRepository.findAssignedTodos(authUser.getId(), cursorTodoId, limit + 1);
+        return CursorPageResponse.of(rows, limit, row -> String.valueOf(row.getTodoId()));
+    }
+
+    private int validateCursorPageSize(int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new InvalidRequestException("size 는 1 ~ " + MAX_CURSOR_PAGE_SIZE + " 사이여야 합니다.");
+        }
+        return size;
     }
 }
@@ -0,0 +1,122 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.cache.TodoDetailsChangedEvent;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.WeatherStatus;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 날씨가 PENDING 인 일정에 날씨를 채우는 트랜잭션 단위 작업.
+ * 외부 API 호출은 트랜잭션 밖(TodoWeatherEnrichmentWorker)에서 하고, 여기서는 조회와 반영만 담당한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TodoWeatherEnrichmentService {
+
+    private final TodoRepository todoRepository;
+    private final TodoDailyStatService todoDailyStatService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${weather.enrichment.max-attempts:5}")
+    private int maxAttempts;
+    @Value("${weather.enrichment.initial-backoff:30s}")
+    private Duration initialBackoff;
+    @Value("${weather.enrichment.max-backoff:30m}")
+    private Duration maxBackoff;
+
+    @Transactional(readOnly = true)
+    public List<Todo> findPendingTodos(int batchSize) {
+        return todoRepository.findWeatherTargets(WeatherStatus.PENDING, LocalDateTime.now(), PageRequest.of(0, batchSize));
+    }
+
+    @Transactional(readOnly = true)
+    public long countPendingTodos() {
+        return todoRepository.countByWeatherStatus(WeatherStatus.PENDING);
+    }
+
+    /**
+     * 날짜별 날씨를 반영하고, 날씨를 찾지 못한 일정은 백오프 후 재시도하도록 표시한다.
+     * @return 반영 / 재시도 예약 / 최대 시도 횟수 초과(FAILED) 일정 수 (이미 처리된 일정은 어디에도 세지 않음)
+     */
+    @Transactional
+    public EnrichmentResult applyWeathers(List<Long> todoIds, Map<LocalDate, String> weatherByDate) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Todo> completed = new ArrayList<>();
+        int retried = 0;
+        int failed = 0;
+
+        // 잠금 조회라서 다른 인스턴스가 먼저 반영했으면 커밋된 상태를 읽고, 반영이 끝날 때까지 같은 일정의 댓글 등록은 대기한다.
+        for (Todo todo : todoRepository.findAllByIdForUpdate(todoIds)) {
+            // 다른 인스턴스가 먼저 처리한 경우
+            if (todo.getWeatherStatus() != WeatherStatus.PENDING) {
+                continue;
+            }
+
+            String weather = weatherByDate.get(todo.getCreatedAt().toLocalDate());
+            if (weather != null) {
+                todo.completeWeather(weather);
+                completed.add(todo);
+            } else {
+                LocalDateTime nextRetryAt = nextRetryAt(todo.getWeatherAttempts() + 1, now);
+                todo.failWeatherAttempt(nextRetryAt);
+                if (nextRetryAt != null) {
+                    retried++;
+                } else {
+                    failed++;
+                }
+            }
+        }
+
+        moveDailyStats(completed);
+        eventPublisher.publishEvent(new TodoDetailsChangedEvent(todoIds)); // 날씨 / weatherStatus 변경
+        return new EnrichmentResult(completed.size(), retried, failed);
+    }
+
+    // 날씨 없음('') 으로 집계된 일정/댓글 수를 반영된 날씨로 옮긴다.
+    // 일정 행을 잠근 뒤에 세므로, 그 사이 '' 로 집계되는 댓글이 생기지 않는다. (CommentService.saveComment 참고)
+    private void moveDailyStats(List<Todo> completed) {
+        if (completed.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Long> commentCounts = todoDailyStatService.countCommentsByTodoId(
+                completed.stream().map(Todo::getId).toList());
+        List<TodoDailyStatService.Increment> increments = new ArrayList<>();
+        for (Todo todo : completed) {
+            LocalDate day = todo.getCreatedAt().toLocalDate();
+            long comments = commentCounts.getOrDefault(todo.getId(), 0L);
+            increments.add(new TodoDailyStatService.Increment(day, null, -1, -comments));
+            increments.add(new TodoDailyStatService.Increment(day, todo.getWeather(), 1, comments));
+        }
+        todoDailyStatService.incrementAll(increments);
+    }
+
+    // 지수 백오프 : initialBackoff * 2^(attempts - 1), 최대 maxBackoff. 최대 시도 횟수에 도달하면 null (FAILED)
+    private LocalDateTime nextRetryAt(int attempts, LocalDateTime now) {
+        if (attempts >= maxAttempts) {
+            return null;
+        }
+
+        Duration backoff = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        if (backoff.compareTo(maxBackoff) > 0) {
+            backoff = maxBackoff;
+        }
+        return now.plus(backoff);
+    }
+
+    public record EnrichmentResult(int completed, int retried, int failed) {
+    }
+}
@@ -0,0 +1,107 @@
+package org.example.expert.domain.todo.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.client.WeatherClient;
+import org.example.expert.domain.todo.entity.Todo;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * PENDING 상태의 일정을 배치 단위로 모아 날씨를 채우는 백그라운드 작업.
+ * 배치당 날씨 API 는 한 번만 호출하고, 실패한 일정은 지수 백오프로 재시도한다.
+ * 동기 모드(weather.enrichment.async=false)에서는 주기적으로 폴링하지 않는다.
+ * 기동 직후 한 번, 그리고 일괄 등록이 PENDING 일정을 만든 경우(TodoWeatherPendingEvent)에만 대기 일정이 없어질 때까지 폴링한다.
+ */
+@Slf4j
+@Component
+public class TodoWeatherEnrichmentWorker {
+
+    private final TodoWeatherEnrichmentService todoWeatherEnrichmentService;
+    private final WeatherClient weatherClient;
+
+    private final AtomicLong backlog = new AtomicLong();
+    private final Counter completedCounter;
+    private final Counter retryCounter;
+    private final Counter failedCounter;
+    private final AtomicBoolean pendingSignaled = new AtomicBoolean(true); // 기동 시 이전에 남은 PENDING 확인
+
+    @Value("${weather.enrichment.batch-size:100}")
+    private int batchSize;
+    @Value("${weather.enrichment.async:false}")
+    private boolean asyncWeatherEnrichment;
+
+    public TodoWeatherEnrichmentWorker(
+            TodoWeatherEnrichmentService todoWeatherEnrichmentService,
+            WeatherClient weatherClient,
+            MeterRegistry meterRegistry
+    ) {
+        this.todoWeatherEnrichmentService = todoWeatherEnrichmentService;
+        this.weatherClient = weatherClient;
+
+        Gauge.builder("todo.weather.enrichment.backlog", backlog, AtomicLong::get)
+                .description("날씨 조회 대기(PENDING) 중인 일정 수")
+                .register(meterRegistry);
+        this.completedCounter = meterRegistry.counter("todo.weather.enrichment", "result", "completed");
+        this.retryCounter = meterRegistry.counter("todo.weather.enrichment", "result", "retry");
+        this.failedCounter = meterRegistry.counter("todo.weather.enrichment", "result", "failed");
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onWeatherPending(TodoWeatherPendingEvent event) {
+        pendingSignaled.set(true);
+    }
+
+    @Scheduled(fixedDelayString = "${weather.enrichment.interval:10000}")
+    public void enrichPendingTodos() {
+        if (!asyncWeatherEnrichment && !pendingSignaled.get()) {
+            return;
+        }
+        // 처리 중에 들어온 신호는 남겨 둔다. (아래에서 backlog 가 0 이어도 다음 주기에 한 번 더 확인)
+        pendingSignaled.set(false);
+
+        List<Todo> pendingTodos = todoWeatherEnrichmentService.findPendingTodos(batchSize);
+
+        if (!pendingTodos.isEmpty()) {
+            Set<LocalDate> dates = pendingTodos.stream()
+                    .map(todo -> todo.getCreatedAt().toLocalDate())
+                    .collect(Collectors.toSet());
+
+            Map<LocalDate, String> weatherByDate;
+            try {
+                weatherByDate = weatherClient.getWeathers(dates);
+            } catch (RuntimeException e) {
+                // 실패해도 일정별로 재시도 시각만 뒤로 미룬다.
+                log.warn("Weather enrichment failed, 날씨 조회에 실패했습니다. : {}", e.getMessage());
+                weatherByDate = Map.of();
+            }
+
+            List<Long> todoIds = pendingTodos.stream().map(Todo::getId).toList();
+            TodoWeatherEnrichmentService.EnrichmentResult result =
+                    todoWeatherEnrichmentService.applyWeathers(todoIds, weatherByDate);
+
+            completedCounter.increment(result.completed());
+            retryCounter.increment(result.retried());
+            failedCounter.increment(result.failed());
+        }
+
+        long pending = todoWeatherEnrichmentService.countPendingTodos();
+        backlog.set(pending);
+        if (pending > 0) {
+            pendingSignaled.set(true); // 동기 모드에서도 재시도 대기 중인 일정이 남아 있으면 계속 폴링
+        }
+    }
+}
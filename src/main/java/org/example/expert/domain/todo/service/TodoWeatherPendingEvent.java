@@ -0,0 +1,8 @@
+package org.example.expert.domain.todo.service;
+
+/**
+ * 날씨 없이(PENDING) 저장된 일정이 생겼음을 알린다. (동기 모드에서 일괄 등록이 날씨를 찾지 못한 경우)
+ * 커밋 후 TodoWeatherEnrichmentWorker 가 대기 중인 일정이 없어질 때까지 폴링을 다시 시작한다.
+ */
+public record TodoWeatherPendingEvent() {
+}
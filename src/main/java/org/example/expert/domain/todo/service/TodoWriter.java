@@ -0,0 +1,50 @@
+package org.example.expert.domain.todo.service;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.common.annotation.ConcurrencyLimited;
+import org.example.expert.domain.todo.autocomplete.TodoTitlesAddedEvent;
+import org.example.expert.domain.todo.cache.TodosChangedEvent;
+import org.example.expert.domain.todo.dto.response.TodoSaveResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.example.expert.domain.user.dto.response.UserResponse;
+import org.example.expert.domain.user.entity.User;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 일정 저장의 트랜잭션 단위 작업.
+ * 날씨 API 호출은 TodoService 에서 트랜잭션 밖에서 끝내고, 여기서는 DB 작업만 한다.
+ * 그래서 "write" 동시 실행 한도가 외부 API 지연이 아닌 DB 지연만 보고 조절된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class TodoWriter {
+
+    private final TodoRepository todoRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TodoDailyStatService todoDailyStatService;
+
+    @Transactional
+    @ConcurrencyLimited("write")
+    public TodoSaveResponse save(Todo newTodo) {
+        Todo savedTodo = todoRepository.save(newTodo);
+        // 집계 행 잠금은 커밋까지 유지되므로 트랜잭션의 마지막에 증가시킨다.
+        todoDailyStatService.increment(savedTodo.getCreatedAt(), savedTodo.getWeather(), 1, 0);
+        eventPublisher.publishEvent(new TodosChangedEvent());
+        eventPublisher.publishEvent(new TodoTitlesAddedEvent(List.of(savedTodo.getTitle()))); // 자동완성 색인
+
+        User user = savedTodo.getUser();
+        return new TodoSaveResponse(
+                savedTodo.getId(),
+                savedTodo.getTitle(),
+                savedTodo.getContents(),
+                savedTodo.getWeather(),
+                savedTodo.getWeatherStatus(),
+                new UserResponse(user.getId(), user.getEmail())
+        );
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.expert.domain.todo.trending;
+
+import org.example.expert.domain.todo.enums.TrendingWindow;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 일정 하나의 댓글 수 sliding window (시간 버킷 링 버퍼).
+ * 분 단위 60칸(최근 1시간)과 시 단위 24칸(최근 하루)을 두고, 칸마다 어느 분/시의 값인지(stamp)를 같이 저장한다.
+ * stamp 가 현재 구간을 벗어난 칸은 합산에서 제외되고, 다음에 그 칸을 쓸 때 0 부터 다시 센다. (별도 정리 작업 불필요)
+ */
+class TodoActivityCounter {
+
+    private static final int MINUTE_BUCKETS = 60;
+    private static final int HOUR_BUCKETS = 24;
+
+    private final long[] minuteStamps = new long[MINUTE_BUCKETS];
+    private final int[] minuteCounts = new int[MINUTE_BUCKETS];
+    private final long[] hourStamps = new long[HOUR_BUCKETS];
+    private final int[] hourCounts = new int[HOUR_BUCKETS];
+
+    synchronized void add(long epochMinute, int count) {
+        int minute = (int) (epochMinute % MINUTE_BUCKETS);
+        if (minuteStamps[minute] != epochMinute) {
+            minuteStamps[minute] = epochMinute;
+            minuteCounts[minute] = 0;
+        }
+        minuteCounts[minute] += count;
+
+        long epochHour = epochMinute / 60;
+        int hour = (int) (epochHour % HOUR_BUCKETS);
+        if (hourStamps[hour] != epochHour) {
+            hourStamps[hour] = epochHour;
+            hourCounts[hour] = 0;
+        }
+        hourCounts[hour] += count;
+    }
+
+    synchronized long count(TrendingWindow window, long epochMinute) {
+        return switch (window) {
+            case HOUR -> sum(minuteStamps, minuteCounts, epochMinute, MINUTE_BUCKETS);
+            case DAY -> sum(hourStamps, hourCounts, epochMinute / 60, HOUR_BUCKETS);
+        };
+    }
+
+    // (now - size, now] 구간의 칸만 합산
+    private static long sum(long[] stamps, int[] counts, long now, int size) {
+        long total = 0;
+        for (int i = 0; i < size; i++) {
+            if (stamps[i] > now - size && stamps[i] <= now) {
+                total += counts[i];
+            }
+        }
+        return total;
+    }
+
+    synchronized Snapshot toSnapshot() {
+        return new Snapshot(toMap(minuteStamps, minuteCounts), toMap(hourStamps, hourCounts));
+    }
+
+    synchronized void restore(Snapshot snapshot) {
+        snapshot.minutes().forEach((stamp, count) -> {
+            int minute = (int) (stamp % MINUTE_BUCKETS);
+            minuteStamps[minute] = stamp;
+            minuteCounts[minute] = count;
+        });
+        snapshot.hours().forEach((stamp, count) -> {
+            int hour = (int) (stamp % HOUR_BUCKETS);
+            hourStamps[hour] = stamp;
+            hourCounts[hour] = count;
+        });
+    }
+
+    private static Map<Long, Integer> toMap(long[] stamps, int[] counts) {
+        Map<Long, Integer> map = new HashMap<>();
+        for (int i = 0; i < stamps.length; i++) {
+            if (counts[i] > 0) {
+                map.put(stamps[i], counts[i]);
+            }
+        }
+        return map;
+    }
+
+    // stamp(epoch 분 / epoch 시) -> 댓글 수
+    record Snapshot(Map<Long, Integer> minutes, Map<Long, Integer> hours) {
+    }
+}
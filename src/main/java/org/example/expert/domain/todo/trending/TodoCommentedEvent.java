@@ -0,0 +1,7 @@
+package org.example.expert.domain.todo.trending;
+
+/**
+ * 댓글이 저장되었을 때 발행한다. 커밋 후 TrendingTodoTracker 가 해당 일정의 활동 수를 올린다.
+ */
+public record TodoCommentedEvent(long todoId) {
+}
@@ -0,0 +1,175 @@
+package org.example.expert.domain.todo.trending;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.domain.todo.enums.TrendingWindow;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 최근 1시간 / 하루 동안 댓글이 많이 달린 일정 (인기 일정).
+ * 요청마다 comments 를 GROUP BY 하지 않도록, 댓글 저장 시 일정별 시간 버킷 카운터(TodoActivityCounter)를 올리고
+ * refresh-interval 마다 구간별 상위 K 개를 min-heap 으로 골라 둔다. 조회는 만들어 둔 목록을 그대로 반환한다. (O(K))
+ * 인스턴스 메모리에만 있으므로 snapshot-interval 마다(그리고 종료 시) 파일로 저장하고, 시작 시 다시 읽는다.
+ * 인스턴스가 여러 대면 각 인스턴스가 받은 댓글만 집계된다.
+ */
+@Slf4j
+@Component
+public class TrendingTodoTracker {
+
+    private static final Comparator<TrendingTodo> RANKING =
+            Comparator.comparingLong(TrendingTodo::commentCount).thenComparingLong(TrendingTodo::todoId);
+
+    private final ObjectMapper objectMapper;
+    private final int topK;
+    private final Path snapshotPath;
+
+    private final Map<Long, TodoActivityCounter> counters = new ConcurrentHashMap<>();
+    private volatile Map<TrendingWindow, List<TrendingTodo>> rankings = emptyRankings();
+
+    public TrendingTodoTracker(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${todo.trending.top-k:100}") int topK,
+            @Value("${todo.trending.snapshot-path:data/trending-todos.json}") Path snapshotPath
+    ) {
+        this.objectMapper = objectMapper;
+        this.topK = topK;
+        this.snapshotPath = snapshotPath;
+
+        Gauge.builder("todo.trending.tracked", counters, Map::size).register(meterRegistry);
+    }
+
+    public int getTopK() {
+        return topK;
+    }
+
+    // 커밋된 댓글만 센다.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTodoCommented(TodoCommentedEvent event) {
+        record(event.todoId(), System.currentTimeMillis());
+    }
+
+    void record(long todoId, long nowMillis) {
+        // compute 안에서 올려야 refresh 의 제거(computeIfPresent)와 겹쳐도 제거된 카운터에 더해지지 않는다.
+        counters.compute(todoId, (id, counter) -> {
+            TodoActivityCounter target = counter != null ? counter : new TodoActivityCounter();
+            target.add(TimeUnit.MILLISECONDS.toMinutes(nowMillis), 1);
+            return target;
+        });
+    }
+
+    // 마지막 refresh 시점의 상위 limit 개 (limit <= topK)
+    public List<TrendingTodo> top(TrendingWindow window, int limit) {
+        List<TrendingTodo> ranking = rankings.get(window);
+        return ranking.subList(0, Math.min(limit, ranking.size()));
+    }
+
+    @Scheduled(fixedDelayString = "${todo.trending.refresh-interval:5000}")
+    public void refresh() {
+        refresh(System.currentTimeMillis());
+    }
+
+    void refresh(long nowMillis) {
+        long epochMinute = TimeUnit.MILLISECONDS.toMinutes(nowMillis);
+
+        Map<TrendingWindow, PriorityQueue<TrendingTodo>> heaps = new EnumMap<>(TrendingWindow.class);
+        for (TrendingWindow window : TrendingWindow.values()) {
+            heaps.put(window, new PriorityQueue<>(topK + 1, RANKING)); // min-heap : 가장 작은 값이 먼저 빠진다.
+        }
+
+        // 하루 동안 댓글이 없으면 어느 구간에도 들어가지 않으므로 제거
+        counters.keySet().forEach(todoId -> counters.computeIfPresent(todoId,
+                (id, counter) -> counter.count(TrendingWindow.DAY, epochMinute) == 0 ? null : counter));
+
+        counters.forEach((todoId, counter) -> {
+            for (TrendingWindow window : TrendingWindow.values()) {
+                long count = counter.count(window, epochMinute);
+                if (count > 0) {
+                    PriorityQueue<TrendingTodo> heap = heaps.get(window);
+                    heap.offer(new TrendingTodo(todoId, count));
+                    if (heap.size() > topK) {
+                        heap.poll();
+                    }
+                }
+            }
+        });
+
+        Map<TrendingWindow, List<TrendingTodo>> refreshed = new EnumMap<>(TrendingWindow.class);
+        heaps.forEach((window, heap) -> {
+            List<TrendingTodo> ranking = new ArrayList<>(heap);
+            ranking.sort(RANKING.reversed());
+            refreshed.put(window, List.copyOf(ranking));
+        });
+        rankings = refreshed;
+    }
+
+    @PostConstruct
+    public void loadSnapshot() {
+        if (!Files.exists(snapshotPath)) {
+            return;
+        }
+        try {
+            Snapshot snapshot = objectMapper.readValue(snapshotPath.toFile(), Snapshot.class);
+            snapshot.todos().forEach((todoId, counterSnapshot) ->
+                    counters.computeIfAbsent(todoId, id -> new TodoActivityCounter()).restore(counterSnapshot));
+            refresh();
+            log.info("Loaded trending todo snapshot : {} todos ({})", snapshot.todos().size(), snapshotPath);
+        } catch (IOException | RuntimeException e) {
+            // 스냅샷이 깨졌으면 빈 상태로 시작 (댓글이 달리면서 다시 채워진다)
+            log.warn("Trending todo snapshot load failed, 인기 일정 스냅샷을 읽지 못했습니다. : {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${todo.trending.snapshot-interval:60000}", initialDelayString = "${todo.trending.snapshot-interval:60000}")
+    public void saveSnapshot() {
+        Map<Long, TodoActivityCounter.Snapshot> todos = new ConcurrentHashMap<>();
+        counters.forEach((todoId, counter) -> todos.put(todoId, counter.toSnapshot()));
+
+        try {
+            Path directory = snapshotPath.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            // 쓰는 도중 종료되어도 이전 스냅샷이 남도록 임시 파일에 쓰고 교체
+            Path temp = Files.createTempFile(directory, "trending-", ".tmp");
+            objectMapper.writeValue(temp.toFile(), new Snapshot(System.currentTimeMillis(), todos));
+            Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("Trending todo snapshot save failed, 인기 일정 스냅샷을 저장하지 못했습니다. : {}", e.getMessage());
+        }
+    }
+
+    private static Map<TrendingWindow, List<TrendingTodo>> emptyRankings() {
+        Map<TrendingWindow, List<TrendingTodo>> empty = new EnumMap<>(TrendingWindow.class);
+        for (TrendingWindow window : TrendingWindow.values()) {
+            empty.put(window, List.of());
+        }
+        return empty;
+    }
+
+    public record TrendingTodo(long todoId, long commentCount) {
+    }
+
+    record Snapshot(long savedAtMillis, Map<Long, TodoActivityCounter.Snapshot> todos) {
+    }
+}
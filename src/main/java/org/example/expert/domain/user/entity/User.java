@@ -6,15 +6,29 @@ import lombok.NoArgsConstructor;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.entity.Timestamped;
 import org.example.expert.domain.user.enums.UserRole;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
+/**
+ * 유저는 조회가 매우 잦고 변경은 드물기 때문에 2차 캐시(users 리전)에 올린다.
+ * email은 변경 API가 없는 불변 값이므로 natural-id로 선언하여 email 조회도 캐시(users-natural-id 리전)를 타도록 한다.
+ * READ_WRITE 전략이므로 changePassword, updateRole 처럼 더티 체킹으로 반영되는 변경은 커밋 시점에 캐시도 함께 갱신된다.
+ * (벌크 JPQL/네이티브 UPDATE는 캐시를 우회하므로 유저 테이블에는 사용하지 않는다.)
+ */
 @Getter
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
+@NaturalIdCache(region = "users-natural-id")
 @NoArgsConstructor
 @Table(name = "users")
 public class User extends Timestamped {
 
     @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
+    @NaturalId
     @Column(unique = true, nullable = false)
     private String email;
     @Column(nullable = false)
@@ -0,0 +1,11 @@
+package org.example.expert.domain.user.repository;
+
+import org.example.expert.domain.user.entity.User;
+
+import java.util.Optional;
+
+public interface UserCustomRepository {
+
+    // email(natural-id) 조회 - 2차 캐시를 거쳐서 조회
+    Optional<User> findByEmail(String email);
+}
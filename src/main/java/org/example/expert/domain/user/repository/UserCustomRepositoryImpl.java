@@ -0,0 +1,23 @@
+package org.example.expert.domain.user.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.example.expert.domain.user.entity.User;
+import org.hibernate.Session;
+
+import java.util.Optional;
+
+public class UserCustomRepositoryImpl implements UserCustomRepository {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public Optional<User> findByEmail(String email) {
+        // 파생 쿼리(SELECT ... WHERE email = ?)는 매번 DB를 조회하므로
+        // natural-id 로 조회하여 email -> id 매핑(users-natural-id)과 엔티티(users)를 모두 2차 캐시에서 찾는다.
+        return em.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(email);
+    }
+}
@@ -3,9 +3,6 @@ package org.example.expert.domain.user.repository;
 import org.example.expert.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-import java.util.Optional;
-
-public interface UserRepository extends JpaRepository<User, Long> {
-    Optional<User> findByEmail(String email);
+public interface UserRepository extends JpaRepository<User, Long>, UserCustomRepository {
     boolean existsByEmail(String email);
 }
@@ -23,6 +23,13 @@ public class UserService {
         return new UserResponse(user.getId(), user.getEmail());
     }
 
+    // ETag 용 버전 - User 는 2차 캐시에 있으므로 대부분 DB 조회 없이 수정일을 얻는다. (유저가 없으면 null)
+    public String getUserVersion(long userId) {
+        return userRepository.findById(userId)
+                .map(user -> String.valueOf(user.getModifiedAt()))
+                .orElse(null);
+    }
+
     @Transactional
     public void changePassword(long userId, UserChangePasswordRequest userChangePasswordRequest) {
         validateNewPassword(userChangePasswordRequest);
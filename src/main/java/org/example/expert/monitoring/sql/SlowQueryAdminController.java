@@ -0,0 +1,24 @@
+package org.example.expert.monitoring.sql;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequiredArgsConstructor
+public class SlowQueryAdminController {
+
+    private final SqlStatsRegistry sqlStatsRegistry;
+
+    // 누적 실행 시간 기준 상위 N개 SQL fingerprint (최근 1~2 윈도우)
+    @GetMapping("/admin/sql/fingerprints")
+    public ResponseEntity<List<SqlFingerprintStatsResponse>> getTopFingerprints(
+            @RequestParam(defaultValue = "20") int limit
+    ) {
+        return ResponseEntity.ok(sqlStatsRegistry.top(limit));
+    }
+}
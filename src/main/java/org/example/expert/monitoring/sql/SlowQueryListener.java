@@ -0,0 +1,70 @@
+package org.example.expert.monitoring.sql;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.example.expert.monitoring.timing.RequestTiming;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모든 JDBC 실행 시간을 측정하여 fingerprint 별 통계에 기록하고, 임계치를 넘는 쿼리만 로그로 남긴다.
+ * (show-sql 처럼 모든 쿼리를 출력하지 않는다.)
+ */
+@Slf4j
+@Component
+public class SlowQueryListener implements QueryExecutionListener {
+
+    private static final String START_NANOS = "startNanos";
+    private static final String SERVICE_PACKAGE = "org.example.expert.domain";
+
+    private final SqlStatsRegistry sqlStatsRegistry;
+    private final long thresholdNanos;
+
+    public SlowQueryListener(SqlStatsRegistry sqlStatsRegistry, @Value("${slow-query.threshold-ms:200}") long thresholdMillis) {
+        this.sqlStatsRegistry = sqlStatsRegistry;
+        this.thresholdNanos = TimeUnit.MILLISECONDS.toNanos(thresholdMillis);
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(START_NANOS, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long startNanos = execInfo.getCustomValue(START_NANOS, Long.class);
+        long elapsedNanos = startNanos != null
+                ? System.nanoTime() - startNanos
+                : TimeUnit.MILLISECONDS.toNanos(execInfo.getElapsedTime());
+
+        String sql = queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery();
+        String fingerprint = SqlFingerprint.of(sql);
+        boolean slow = elapsedNanos >= thresholdNanos;
+
+        sqlStatsRegistry.record(fingerprint, elapsedNanos, slow);
+        RequestTiming.recordStatement(elapsedNanos); // Server-Timing db 구간
+
+        if (slow) {
+            log.warn("Slow query {}ms, 느린 쿼리입니다. caller: {}, batchSize: {}, success: {}, sql: {}",
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos), findCallingServiceMethod(),
+                    execInfo.getBatchSize(), execInfo.isSuccess(), fingerprint);
+        }
+    }
+
+    // 느린 쿼리일 때만 호출되므로 스택 탐색 비용은 정상 경로에 영향이 없다.
+    private String findCallingServiceMethod() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(SERVICE_PACKAGE)
+                        && frame.getClassName().contains(".service.")
+                        && !frame.getClassName().contains("$$")) // CGLIB 프록시 제외
+                .findFirst()
+                .map(frame -> frame.getClassName().substring(frame.getClassName().lastIndexOf('.') + 1)
+                        + "." + frame.getMethodName())
+                .orElse("unknown"));
+    }
+}
@@ -0,0 +1,56 @@
+package org.example.expert.monitoring.sql;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * SQL 문에서 리터럴/공백/주석 차이를 제거하여 같은 형태의 쿼리를 하나의 fingerprint 로 묶는다.
+ * ex) SELECT * FROM todos WHERE id = 10 AND title = 'a'  ->  select * from todos where id = ? and title = ?
+ */
+public final class SqlFingerprint {
+
+    private static final Pattern BLOCK_COMMENT = Pattern.compile("/\\*.*?\\*/", Pattern.DOTALL);
+    private static final Pattern LINE_COMMENT = Pattern.compile("--[^\\n]*");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\bin\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern VALUES_LIST = Pattern.compile("(\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\))(?:\\s*,\\s*\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\))+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    // Hibernate 는 같은 SQL 문자열을 반복 실행하므로 정규화 결과를 캐싱한다. (크기 제한)
+    private static final int CACHE_LIMIT = 10_000;
+    private static final Map<String, String> CACHE = new ConcurrentHashMap<>();
+
+    private SqlFingerprint() {
+    }
+
+    public static String of(String sql) {
+        if (sql == null) {
+            return "";
+        }
+
+        String cached = CACHE.get(sql);
+        if (cached != null) {
+            return cached;
+        }
+
+        String fingerprint = normalize(sql);
+        if (CACHE.size() < CACHE_LIMIT) {
+            CACHE.put(sql, fingerprint);
+        }
+        return fingerprint;
+    }
+
+    static String normalize(String sql) {
+        String result = BLOCK_COMMENT.matcher(sql).replaceAll(" ");
+        result = LINE_COMMENT.matcher(result).replaceAll(" ");
+        result = STRING_LITERAL.matcher(result).replaceAll("?");
+        result = NUMBER_LITERAL.matcher(result).replaceAll("?");
+        result = WHITESPACE.matcher(result).replaceAll(" ").trim().toLowerCase();
+        // IN (?, ?, ?) 와 다중 VALUES 는 개수와 상관없이 같은 쿼리로 본다.
+        result = IN_LIST.matcher(result).replaceAll("in (?+)");
+        result = VALUES_LIST.matcher(result).replaceAll("$1+");
+        return result;
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.expert.monitoring.sql;
+
+import lombok.Getter;
+
+@Getter
+public class SqlFingerprintStatsResponse {
+
+    private final String fingerprint;
+    private final long count;          // 실행 횟수
+    private final long slowCount;      // 임계치를 넘은 실행 횟수
+    private final double totalMillis;  // 누적 실행 시간
+    private final double avgMillis;
+    private final double p50Millis;
+    private final double p95Millis;
+    private final double p99Millis;
+    private final double maxMillis;
+
+    public SqlFingerprintStatsResponse(String fingerprint, SqlLatencyHistogram.Snapshot snapshot) {
+        this.fingerprint = fingerprint;
+        this.count = snapshot.count();
+        this.slowCount = snapshot.slowCount();
+        this.totalMillis = snapshot.totalNanos() / 1_000_000.0;
+        this.avgMillis = snapshot.count() == 0 ? 0 : totalMillis / snapshot.count();
+        this.p50Millis = snapshot.percentileMillis(0.50);
+        this.p95Millis = snapshot.percentileMillis(0.95);
+        this.p99Millis = snapshot.percentileMillis(0.99);
+        this.maxMillis = snapshot.maxNanos() / 1_000_000.0;
+    }
+}
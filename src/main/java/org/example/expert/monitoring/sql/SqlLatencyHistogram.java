@@ -0,0 +1,72 @@
+package org.example.expert.monitoring.sql;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * fingerprint 하나의 지연 시간 분포. 락 없이 여러 스레드가 동시에 기록한다.
+ * 버킷 i 는 [2^(i-1), 2^i) 마이크로초 구간이며, 백분위는 해당 버킷의 상한으로 근사한다.
+ */
+public class SqlLatencyHistogram {
+
+    private static final int BUCKET_COUNT = 32; // 2^31 us ≒ 35분
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder slowCount = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public void record(long elapsedNanos, boolean slow) {
+        long micros = Math.max(elapsedNanos / 1_000, 0);
+        int bucket = Math.min(64 - Long.numberOfLeadingZeros(micros), BUCKET_COUNT - 1);
+
+        buckets.incrementAndGet(bucket);
+        count.increment();
+        totalNanos.add(elapsedNanos);
+        if (slow) {
+            slowCount.increment();
+        }
+
+        long max = maxNanos.get();
+        while (elapsedNanos > max && !maxNanos.compareAndSet(max, elapsedNanos)) {
+            max = maxNanos.get();
+        }
+    }
+
+    // 다른 구간(이전 윈도우)의 값을 합친 복사본
+    public Snapshot snapshot(SqlLatencyHistogram other) {
+        long[] merged = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            merged[i] = buckets.get(i) + (other == null ? 0 : other.buckets.get(i));
+        }
+        return new Snapshot(
+                merged,
+                count.sum() + (other == null ? 0 : other.count.sum()),
+                totalNanos.sum() + (other == null ? 0 : other.totalNanos.sum()),
+                slowCount.sum() + (other == null ? 0 : other.slowCount.sum()),
+                Math.max(maxNanos.get(), other == null ? 0 : other.maxNanos.get())
+        );
+    }
+
+    public record Snapshot(long[] buckets, long count, long totalNanos, long slowCount, long maxNanos) {
+
+        public double percentileMillis(double percentile) {
+            if (count == 0) {
+                return 0;
+            }
+
+            long rank = (long) Math.ceil(count * percentile);
+            long cumulative = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                cumulative += buckets[i];
+                if (cumulative >= rank) {
+                    // 버킷 상한 (마이크로초) -> 밀리초, 최대값을 넘지 않도록 보정
+                    return Math.min((1L << i) / 1_000.0, maxNanos / 1_000_000.0);
+                }
+            }
+            return maxNanos / 1_000_000.0;
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.expert.monitoring.sql;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * fingerprint 별 지연 시간 분포를 보관한다.
+ * 현재 윈도우와 직전 윈도우 두 개만 유지하며(rolling), 윈도우가 바뀌면 오래된 통계는 통째로 버린다.
+ * 기록 경로는 맵 조회 + 원자적 카운터 증가뿐이라 락이 없다.
+ */
+@Component
+public class SqlStatsRegistry {
+
+    // fingerprint 수 제한을 넘으면 이 키로 합산 (동적 SQL 로 인한 메모리 증가 방지)
+    static final String OVERFLOW_FINGERPRINT = "<other>";
+
+    private final int maxFingerprints;
+    private final AtomicReference<ConcurrentHashMap<String, SqlLatencyHistogram>> current =
+            new AtomicReference<>(new ConcurrentHashMap<>());
+    private volatile Map<String, SqlLatencyHistogram> previous = Map.of();
+
+    public SqlStatsRegistry(@Value("${slow-query.max-fingerprints:2000}") int maxFingerprints) {
+        this.maxFingerprints = maxFingerprints;
+    }
+
+    public void record(String fingerprint, long elapsedNanos, boolean slow) {
+        ConcurrentHashMap<String, SqlLatencyHistogram> window = current.get();
+
+        SqlLatencyHistogram histogram = window.get(fingerprint);
+        if (histogram == null) {
+            String key = window.size() < maxFingerprints ? fingerprint : OVERFLOW_FINGERPRINT;
+            histogram = window.computeIfAbsent(key, k -> new SqlLatencyHistogram());
+        }
+        histogram.record(elapsedNanos, slow);
+    }
+
+    @Scheduled(fixedRateString = "${slow-query.window:60000}")
+    public void rotate() {
+        previous = current.getAndSet(new ConcurrentHashMap<>());
+    }
+
+    // 직전 + 현재 윈도우 기준, 누적 실행 시간이 큰 순서
+    public List<SqlFingerprintStatsResponse> top(int limit) {
+        Map<String, SqlLatencyHistogram> currentWindow = current.get();
+        Map<String, SqlLatencyHistogram> previousWindow = previous;
+
+        Set<String> fingerprints = new HashSet<>(currentWindow.keySet());
+        fingerprints.addAll(previousWindow.keySet());
+
+        return fingerprints.stream()
+                .map(fingerprint -> {
+                    SqlLatencyHistogram histogram = currentWindow.getOrDefault(fingerprint, new SqlLatencyHistogram());
+                    return new SqlFingerprintStatsResponse(fingerprint, histogram.snapshot(previousWindow.get(fingerprint)));
+                })
+                .sorted(Comparator.comparingDouble(SqlFingerprintStatsResponse::getTotalMillis).reversed())
+                .limit(limit)
+                .toList();
+    }
+}
@@ -0,0 +1,92 @@
+package org.example.expert.monitoring.timing;
+
+import java.util.Locale;
+
+/**
+ * 요청 하나의 구간별 소요 시간 (JWT 검증, JDBC, 날씨 API, JSON 직렬화).
+ * ServerTimingFilter 가 요청 스레드에 붙여두고, 각 구간에서 static 메서드로 누적한다.
+ * 요청 밖(스케줄러, 비동기 스레드)에서 호출되면 아무것도 하지 않는다.
+ */
+public final class RequestTiming {
+
+    public static final String HEADER = "Server-Timing";
+
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+
+    public enum Phase {
+        JWT("jwt"),
+        DB("db"),
+        WEATHER("weather"),
+        SERIALIZATION("ser");
+
+        private final String metricName;
+
+        Phase(String metricName) {
+            this.metricName = metricName;
+        }
+    }
+
+    private final long startNanos = System.nanoTime();
+    private final long[] phaseNanos = new long[Phase.values().length];
+    private int statementCount;
+    private boolean headerWritten;
+
+    private RequestTiming() {
+    }
+
+    static RequestTiming start() {
+        RequestTiming timing = new RequestTiming();
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    static RequestTiming current() {
+        return CURRENT.get();
+    }
+
+    public static void record(Phase phase, long elapsedNanos) {
+        RequestTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.phaseNanos[phase.ordinal()] += elapsedNanos;
+        }
+    }
+
+    // JDBC 실행 1회 (배치는 한 번의 실행으로 센다)
+    public static void recordStatement(long elapsedNanos) {
+        RequestTiming timing = CURRENT.get();
+        if (timing != null) {
+            timing.phaseNanos[Phase.DB.ordinal()] += elapsedNanos;
+            timing.statementCount++;
+        }
+    }
+
+    boolean isHeaderWritten() {
+        return headerWritten;
+    }
+
+    /**
+     * ex) jwt;dur=0.21, db;dur=3.48;desc="4 statements", weather;dur=0.00, ser;dur=0.35, app;dur=6.12
+     * app 은 필터 진입부터 헤더 작성 시점까지의 시간이다.
+     */
+    String toHeaderValue() {
+        headerWritten = true;
+
+        StringBuilder value = new StringBuilder(128);
+        for (Phase phase : Phase.values()) {
+            value.append(phase.metricName).append(";dur=").append(millis(phaseNanos[phase.ordinal()]));
+            if (phase == Phase.DB) {
+                value.append(";desc=\"").append(statementCount).append(" statements\"");
+            }
+            value.append(", ");
+        }
+        return value.append("app;dur=").append(millis(System.nanoTime() - startNanos)).toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.2f", nanos / 1_000_000.0);
+    }
+}
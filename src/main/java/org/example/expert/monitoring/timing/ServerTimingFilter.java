@@ -0,0 +1,46 @@
+package org.example.expert.monitoring.timing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청별 구간 시간을 Server-Timing 헤더로 내려준다. (브라우저 개발자 도구 Network > Timing 에서 확인)
+ * 보안 필터(JWT)보다 먼저 실행되어야 하므로 가장 높은 우선순위로 등록한다.
+ *
+ * JSON 본문은 ServerTimingJacksonConverter 가 직렬화 시간까지 포함해서 본문보다 먼저 헤더를 쓴다.
+ * 본문이 없거나(304 등) 아직 커밋되지 않은 응답은 여기서 마지막에 헤더를 붙인다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    @Value("${server-timing.enabled:true}")
+    private boolean enabled;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        RequestTiming timing = RequestTiming.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (!timing.isHeaderWritten() && !response.isCommitted()) {
+                response.addHeader(RequestTiming.HEADER, timing.toHeaderValue());
+            }
+            RequestTiming.clear();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package org.example.expert.monitoring.timing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+/**
+ * JSON 직렬화 시간을 측정해서 Server-Timing 헤더에 포함시키는 컨버터.
+ * 헤더는 본문보다 먼저 나가야 하므로, 요청 측정 중일 때는 버퍼에 직렬화 -> 헤더 추가 -> 본문 쓰기 순서로 처리한다.
+ * (응답은 DTO/페이지 단위로 작아서 버퍼링 비용이 작다. 대용량 내보내기는 StreamingResponseBody 를 사용하므로 해당 없음)
+ */
+public class ServerTimingJacksonConverter extends MappingJackson2HttpMessageConverter {
+
+    public ServerTimingJacksonConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException, HttpMessageNotWritableException {
+        RequestTiming timing = RequestTiming.current();
+        if (timing == null || timing.isHeaderWritten()) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(1024);
+        long start = System.nanoTime();
+        super.writeInternal(object, type, new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return buffer;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return outputMessage.getHeaders();
+            }
+        });
+        RequestTiming.record(RequestTiming.Phase.SERIALIZATION, System.nanoTime() - start);
+
+        outputMessage.getHeaders().add(RequestTiming.HEADER, timing.toHeaderValue());
+        buffer.writeTo(outputMessage.getBody());
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.expert.warmup;
+
+import lombok.RequiredArgsConstructor;
+import org.example.expert.domain.todo.dto.TodoSearchCondition;
+import org.example.expert.domain.todo.enums.WeatherStatus;
+import org.example.expert.domain.todo.repository.TodoRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 일정 조회 쿼리(JPQL / QueryDSL / 네이티브)를 한 번씩 실행해서 Hibernate 쿼리 해석 캐시와 JDBC 경로를 미리 채운다.
+ * 운영 DB 에서 실행되므로 인덱스로 바로 끝나고 결과가 없는 조건만 사용한다.
+ * - 존재하지 않는 사용자/일정 id (PK / 인덱스 조회)
+ * - 작성일 조건은 아주 오래된 하루 (idx_todos_created_at, idx_todos_archive_created_at 범위가 비어 있음)
+ * 조건 없는 검색, DATE(modified_at) 조건 목록(searchTodos / searchTodosIncludingArchive), 건수 조회처럼
+ * 인덱스를 타지 않는 쿼리는 실행하지 않는다. (@Query 메서드의 JPQL 은 기동 시 Spring Data 가 검증하면서 이미 해석해 둔다.)
+ * QueryDSL 은 조건 유무에 따라 JPQL 문자열이 달라지므로 작성일만 / 조건 전체 두 가지로 실행한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class WarmUpQueries {
+
+    private static final long NONE_ID = -1L;
+    private static final String PROBE = "warm-up";
+    private static final LocalDate EMPTY_DAY = LocalDate.of(1970, 1, 1);
+
+    private final TodoRepository todoRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    /**
+     * 남은 시간을 트랜잭션 타임아웃으로 걸어서, 느린 쿼리가 있어도 워밍업 마감 시각을 크게 넘기지 않는다.
+     * (트랜잭션 타임아웃은 각 쿼리의 JDBC query timeout 으로 적용되고, 마감이 지나면 다음 쿼리는 실행 전에 실패한다.)
+     */
+    public void run(long deadlineNanos) {
+        long remainingSeconds = TimeUnit.NANOSECONDS.toSeconds(deadlineNanos - System.nanoTime());
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        transactionTemplate.setTimeout((int) Math.max(1, remainingSeconds));
+        transactionTemplate.executeWithoutResult(status -> runQueries());
+    }
+
+    private void runQueries() {
+        Pageable pageable = PageRequest.of(0, 10);
+
+        // TodoRepository (JPQL)
+        todoRepository.findResponsesByIds(List.of(NONE_ID));
+        todoRepository.existsTodoById(NONE_ID);
+        todoRepository.findModifiedAtById(NONE_ID);
+        // (weather_status, weather_retry_at) 인덱스 범위에서 한 건만 읽는다.
+        todoRepository.findWeatherTargets(WeatherStatus.PENDING, LocalDateTime.now(), PageRequest.of(0, 1));
+
+        // TodoCustomRepositoryImpl (QueryDSL / 네이티브)
+        for (TodoSearchCondition condition : List.of(dateCondition(), fullCondition())) {
+            todoRepository.searchTodosList(condition, pageable);
+            todoRepository.searchTodosListIncludingArchive(condition, pageable);
+            todoRepository.searchTodoFacets(condition, 1);
+            try (Stream<?> rows = todoRepository.streamTodosList(condition, 1)) {
+                rows.findFirst();
+            }
+        }
+        todoRepository.findMyTodos(NONE_ID, null, null, 1);
+        todoRepository.findMyTodos(NONE_ID, LocalDateTime.now(), Long.MAX_VALUE, 1);
+        todoRepository.findAssignedTodos(NONE_ID, null, 1);
+        todoRepository.findAssignedTodos(NONE_ID, Long.MAX_VALUE, 1);
+    }
+
+    private TodoSearchCondition dateCondition() {
+        TodoSearchCondition condition = new TodoSearchCondition();
+        condition.setStartDate(EMPTY_DAY);
+        condition.setEndDate(EMPTY_DAY);
+        return condition;
+    }
+
+    private TodoSearchCondition fullCondition() {
+        TodoSearchCondition condition = dateCondition();
+        condition.setTitle(PROBE);
+        condition.setManagerNickname(PROBE);
+        return condition;
+    }
+}
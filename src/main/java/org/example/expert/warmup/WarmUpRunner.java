@@ -0,0 +1,210 @@
+package org.example.expert.warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.example.expert.config.JwtUtil;
+import org.example.expert.domain.todo.dto.request.TodoSaveRequest;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.dto.response.TodoSearchFacetsResponse;
+import org.example.expert.domain.todo.dto.response.TodoSearchPageResponse;
+import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.example.expert.domain.todo.enums.WeatherStatus;
+import org.example.expert.domain.user.enums.UserRole;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * 배포 직후 첫 요청들이 느린 문제(빈 커넥션 풀, 비어 있는 쿼리 해석 캐시, 인터프리터로 도는 JIT 이전 코드)를 줄이기 위한 워밍업.
+ * ApplicationRunner 는 readiness(ACCEPTING_TRAFFIC) 전에 실행되므로 /actuator/health/readiness 는 워밍업이 끝난 뒤에 UP 이 된다.
+ *
+ * 1. 커넥션 풀 : 풀마다 minimumIdle 개의 커넥션을 동시에 빌려서 물리 커넥션을 미리 만든다.
+ * 2. 쿼리 : TodoRepository / TodoCustomRepositoryImpl 의 조회 쿼리를 결과가 없는 조건으로 query-iterations 번 실행 (WarmUpQueries)
+ * 3. JWT / JSON : 토큰 발급-검증, 응답 직렬화-요청 역직렬화를 cpu-iterations 번 반복해서 JIT 컴파일을 유도
+ *
+ * 단계별 소요 시간은 warmup.duration{phase} 로 남긴다. 워밍업 실패는 기동을 막지 않는다. (로그만 남기고 다음 단계 진행)
+ */
+@Slf4j
+@Component
+public class WarmUpRunner implements ApplicationRunner {
+
+    private final List<DataSource> dataSources;
+    private final WarmUpQueries warmUpQueries;
+    private final JwtUtil jwtUtil;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final int queryIterations;
+    private final int cpuIterations;
+    private final Duration maxDuration;
+
+    public WarmUpRunner(
+            List<DataSource> dataSources,
+            WarmUpQueries warmUpQueries,
+            JwtUtil jwtUtil,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${warmup.enabled:true}") boolean enabled,
+            @Value("${warmup.query-iterations:5}") int queryIterations,
+            @Value("${warmup.cpu-iterations:500}") int cpuIterations,
+            @Value("${warmup.max-duration:30s}") Duration maxDuration
+    ) {
+        this.dataSources = dataSources;
+        this.warmUpQueries = warmUpQueries;
+        this.jwtUtil = jwtUtil;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.queryIterations = queryIterations;
+        this.cpuIterations = cpuIterations;
+        this.maxDuration = maxDuration;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        long startNanos = System.nanoTime();
+        long deadline = startNanos + maxDuration.toNanos();
+
+        int connections = measure("pool", this::fillPools);
+        int queryRuns = measure("queries", () -> repeat(queryIterations, deadline, () -> warmUpQueries.run(deadline)));
+        int jwtRuns = measure("jwt", () -> repeat(cpuIterations, deadline, this::exerciseJwt));
+        int jsonRuns = measure("serialization", () -> repeat(cpuIterations, deadline, this::exerciseJson));
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        record("total", elapsedNanos);
+        log.info("Warm-up finished in {} ms : connections={}, queries={}, jwt={}, serialization={}",
+                elapsedNanos / 1_000_000, connections, queryRuns, jwtRuns, jsonRuns);
+    }
+
+    // 풀마다 minimumIdle 개를 동시에 빌려서 반납한다. (하나씩 빌리고 반납하면 같은 커넥션만 재사용됨)
+    private int fillPools() {
+        Set<HikariDataSource> pools = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (DataSource dataSource : dataSources) {
+            HikariDataSource pool = unwrapPool(dataSource);
+            if (pool != null) {
+                pools.add(pool);
+            }
+        }
+
+        int total = 0;
+        for (HikariDataSource pool : pools) {
+            List<Connection> borrowed = new ArrayList<>();
+            try {
+                borrowed.add(pool.getConnection()); // 첫 커넥션에서 풀이 시작되고 minimumIdle 기본값이 확정된다.
+                int target = Math.min(pool.getMinimumIdle(), pool.getMaximumPoolSize());
+                while (borrowed.size() < target) {
+                    borrowed.add(pool.getConnection());
+                }
+            } catch (SQLException e) {
+                log.warn("Warm-up : failed to fill pool {} ({} connections)", pool.getPoolName(), borrowed.size(), e);
+            } finally {
+                total += borrowed.size();
+                borrowed.forEach(this::closeQuietly);
+            }
+        }
+        return total;
+    }
+
+    private HikariDataSource unwrapPool(DataSource dataSource) {
+        if (dataSource instanceof HikariDataSource pool) {
+            return pool;
+        }
+        try {
+            return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    private void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.debug("Warm-up : failed to release connection", e);
+        }
+    }
+
+    // JwtAuthenticationFilter 와 같은 순서로 토큰을 해석한다.
+    private void exerciseJwt() {
+        String bearerJwt = jwtUtil.createToken(0L, "warmup@example.com", "warmup", UserRole.USER);
+        Claims claims = jwtUtil.extractClaims(jwtUtil.substringToken(bearerJwt));
+        Long.parseLong(claims.getSubject());
+        claims.get("email", String.class);
+        claims.get("nickname", String.class);
+        UserRole.of(claims.get("userRole", String.class));
+    }
+
+    private void exerciseJson() {
+        LocalDateTime now = LocalDateTime.now();
+        TodoResponse todo = new TodoResponse(0L, "warm-up", "warm-up", "Sunny", WeatherStatus.READY,
+                0L, "warmup@example.com", now, now);
+        TodoSearchPageResponse searchPage = new TodoSearchPageResponse(
+                new PageImpl<>(List.of(new TodoSearchResponse("warm-up", 1L, 1L)), PageRequest.of(0, 10), 1),
+                new TodoSearchFacetsResponse(
+                        List.of(new TodoSearchFacetsResponse.ValueCount("Sunny", 1)),
+                        List.of(new TodoSearchFacetsResponse.ValueCount("2024-01", 1)),
+                        List.of(new TodoSearchFacetsResponse.ManagerCount(0L, "warmup", 1))));
+        try {
+            objectMapper.writeValueAsBytes(todo);
+            objectMapper.writeValueAsBytes(List.of(todo));
+            objectMapper.writeValueAsBytes(searchPage);
+            objectMapper.readValue("{\"title\":\"warm-up\",\"contents\":\"warm-up\"}", TodoSaveRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 마감 시각이 지나면 남은 반복은 건너뛴다. 실패하면(쿼리 타임아웃 포함) 해당 단계만 중단한다.
+    private int repeat(int iterations, long deadline, Runnable task) {
+        int done = 0;
+        try {
+            while (done < iterations && System.nanoTime() < deadline) {
+                task.run();
+                done++;
+            }
+        } catch (RuntimeException e) {
+            log.warn("Warm-up : step failed after {} iterations", done, e);
+        }
+        return done;
+    }
+
+    private int measure(String phase, IntSupplier step) {
+        long start = System.nanoTime();
+        try {
+            return step.getAsInt();
+        } finally {
+            record(phase, System.nanoTime() - start);
+        }
+    }
+
+    private void record(String phase, long nanos) {
+        Timer.builder("warmup.duration")
+                .tag("phase", phase)
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+}
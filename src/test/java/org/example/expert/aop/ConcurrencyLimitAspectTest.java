@@ -0,0 +1,208 @@
+package org.example.expert.aop;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.config.ConcurrencyLimitProperties;
+import org.example.expert.domain.common.annotation.ConcurrencyLimited;
+import org.example.expert.domain.common.annotation.SingleFlight;
+import org.example.expert.domain.common.exception.ServiceOverloadedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+// 실제 advisor 순서(SingleFlight -> ConcurrencyLimit -> @Transactional)로 확인하기 위해 프록시를 스프링 컨텍스트에서 만든다.
+@SpringJUnitConfig(ConcurrencyLimitAspectTest.Config.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class ConcurrencyLimitAspectTest {
+
+    @Autowired
+    private LimitedService service;
+    @Autowired
+    private MeterRegistry meterRegistry;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private LimitedService target; // 실행 수 / 래치 확인용 (프록시의 필드는 비어 있음)
+
+    @BeforeEach
+    void setUp() {
+        target = AopTestUtils.getUltimateTargetObject(service);
+        given(transactionManager.getTransaction(any())).willReturn(new SimpleTransactionStatus());
+    }
+
+    @Test
+    void 한도를_넘는_호출은_트랜잭션을_시작하기_전에_503_으로_거절한다() throws Exception {
+        // given
+        Future<String> running = executor.submit(() -> service.write(1L));
+        target.started.await(5, TimeUnit.SECONDS);
+
+        // when
+        assertThrows(ServiceOverloadedException.class, () -> service.write(2L));
+        target.release.countDown();
+
+        // then
+        assertEquals("saved-1", running.get(5, TimeUnit.SECONDS));
+        assertEquals(1, target.executions.get());
+        assertEquals(1, meterRegistry.counter("concurrency.rejected", "name", "single").count());
+        verify(transactionManager, times(1)).getTransaction(any()); // 거절된 호출은 트랜잭션(커넥션)을 잡지 않음
+        executor.shutdown();
+    }
+
+    @Test
+    void SingleFlight_로_합쳐진_호출은_한도를_하나만_차지한다() throws Exception {
+        // given
+        Future<String> first = executor.submit(() -> service.read(1L));
+        target.started.await(5, TimeUnit.SECONDS);
+
+        // when
+        Future<String> second = executor.submit(() -> service.read(1L));
+        waitForCoalesced();
+        target.release.countDown();
+
+        // then
+        assertEquals("todo-1", first.get(5, TimeUnit.SECONDS));
+        assertEquals("todo-1", second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, target.executions.get());
+        assertEquals(0, meterRegistry.counter("concurrency.rejected", "name", "single").count());
+        executor.shutdown();
+    }
+
+    @Test
+    void 타임아웃은_한도를_줄이고_요청이_원인인_DB_예외는_한도를_줄이지_않는다() {
+        // given
+        int initialLimit = limit("wide");
+
+        // when
+        assertThrows(DataIntegrityViolationException.class,
+                () -> service.fail(new DataIntegrityViolationException("duplicate")));
+        int afterIntegrityViolation = limit("wide");
+        assertThrows(QueryTimeoutException.class, () -> service.fail(new QueryTimeoutException("timeout")));
+
+        // then
+        assertEquals(initialLimit, afterIntegrityViolation);
+        assertEquals(9, limit("wide"));
+    }
+
+    private int limit(String name) {
+        return (int) meterRegistry.get("concurrency.limit").tag("name", name).gauge().value();
+    }
+
+    private void waitForCoalesced() throws InterruptedException {
+        for (int i = 0; i < 500 && meterRegistry.counter("singleflight.calls", "name", "read", "result", "coalesced").count() < 1; i++) {
+            Thread.sleep(10);
+        }
+    }
+
+    @Configuration
+    @EnableAspectJAutoProxy(proxyTargetClass = true)
+    @EnableTransactionManagement
+    static class Config {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        PlatformTransactionManager transactionManager() {
+            return mock(PlatformTransactionManager.class);
+        }
+
+        @Bean
+        ConcurrencyLimitProperties concurrencyLimitProperties() {
+            ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+            properties.setLimiters(Map.of(
+                    "single", limiter(1, 1, 1),
+                    "wide", limiter(10, 2, 10)
+            ));
+            return properties;
+        }
+
+        @Bean
+        ConcurrencyLimitAspect concurrencyLimitAspect(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+            return new ConcurrencyLimitAspect(properties, meterRegistry);
+        }
+
+        @Bean
+        SingleFlightAspect singleFlightAspect(MeterRegistry meterRegistry) {
+            return new SingleFlightAspect(meterRegistry, Duration.ofSeconds(5));
+        }
+
+        @Bean
+        LimitedService limitedService() {
+            return new LimitedService();
+        }
+
+        private static ConcurrencyLimitProperties.Limiter limiter(int initialLimit, int minLimit, int maxLimit) {
+            ConcurrencyLimitProperties.Limiter limiter = new ConcurrencyLimitProperties.Limiter();
+            limiter.setInitialLimit(initialLimit);
+            limiter.setMinLimit(minLimit);
+            limiter.setMaxLimit(maxLimit);
+            return limiter;
+        }
+    }
+
+    static class LimitedService {
+
+        final AtomicInteger executions = new AtomicInteger();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @Transactional
+        @ConcurrencyLimited("single")
+        public String write(Long id) throws InterruptedException {
+            await();
+            return "saved-" + id;
+        }
+
+        @Transactional(readOnly = true)
+        @SingleFlight("read")
+        @ConcurrencyLimited("single")
+        public String read(Long id) throws InterruptedException {
+            await();
+            return "todo-" + id;
+        }
+
+        @Transactional
+        @ConcurrencyLimited("wide")
+        public void fail(RuntimeException e) {
+            throw e;
+        }
+
+        private void await() throws InterruptedException {
+            executions.incrementAndGet();
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+        }
+    }
+}
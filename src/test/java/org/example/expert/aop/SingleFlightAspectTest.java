@@ -0,0 +1,128 @@
+package org.example.expert.aop;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.annotation.SingleFlight;
+import org.example.expert.domain.common.exception.ServiceOverloadedException;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SingleFlightAspectTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void 실행_중인_같은_인자의_호출은_결과를_공유한다() throws Exception {
+        // given
+        SlowReader target = new SlowReader();
+        SlowReader reader = proxy(target);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        // when
+        Future<String> first = executor.submit(() -> reader.read(1L));
+        target.started.await(5, TimeUnit.SECONDS);
+        Future<String> second = executor.submit(() -> reader.read(1L));
+        waitForCoalesced(1);
+        target.release.countDown();
+
+        // then
+        assertEquals("todo-1", first.get(5, TimeUnit.SECONDS));
+        assertEquals("todo-1", second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, target.executions.get());
+        assertEquals(0.5, meterRegistry.get("singleflight.coalesced.ratio").tag("name", "read").gauge().value());
+        executor.shutdown();
+    }
+
+    @Test
+    void 인자가_다르면_각각_실행하고_끝난_호출의_결과는_재사용하지_않는다() throws Exception {
+        // given
+        SlowReader target = new SlowReader();
+        target.release.countDown();
+        SlowReader reader = proxy(target);
+
+        // when
+        reader.read(1L);
+        reader.read(2L);
+        reader.read(1L);
+
+        // then
+        assertEquals(3, target.executions.get());
+    }
+
+    @Test
+    void 실행한_호출의_예외가_그대로_전달된다() {
+        // given
+        SlowReader target = new SlowReader();
+        target.release.countDown();
+        SlowReader reader = proxy(target);
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> reader.read(-1L));
+    }
+
+    @Test
+    void 실행_중인_호출이_join_timeout_안에_끝나지_않으면_다시_실행하지_않고_503_으로_끝낸다() throws Exception {
+        // given
+        SlowReader target = new SlowReader();
+        SlowReader reader = proxy(target, Duration.ofMillis(100));
+        ExecutorService executor = Executors.newFixedThreadPool(1);
+
+        // when
+        Future<String> first = executor.submit(() -> reader.read(1L));
+        target.started.await(5, TimeUnit.SECONDS);
+        assertThrows(ServiceOverloadedException.class, () -> reader.read(1L));
+        target.release.countDown();
+
+        // then
+        assertEquals("todo-1", first.get(5, TimeUnit.SECONDS));
+        assertEquals(1, target.executions.get());
+        assertEquals(1, meterRegistry.counter("singleflight.calls", "name", "read", "result", "join_timeout").count());
+        executor.shutdown();
+    }
+
+    private SlowReader proxy(SlowReader target) {
+        return proxy(target, Duration.ofSeconds(5));
+    }
+
+    private SlowReader proxy(SlowReader target, Duration joinTimeout) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new SingleFlightAspect(meterRegistry, joinTimeout));
+        return factory.getProxy();
+    }
+
+    private void waitForCoalesced(long expected) throws InterruptedException {
+        for (int i = 0; i < 500 && meterRegistry.counter("singleflight.calls", "name", "read", "result", "coalesced").count() < expected; i++) {
+            Thread.sleep(10);
+        }
+    }
+
+    static class SlowReader {
+
+        final AtomicInteger executions = new AtomicInteger();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @SingleFlight("read")
+        public String read(Long id) throws InterruptedException {
+            executions.incrementAndGet();
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            if (id < 0) {
+                throw new IllegalStateException("not found");
+            }
+            return "todo-" + id;
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package org.example.expert.client;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.common.exception.ServerException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WeatherClientTest {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 1, 1);
+    private static final String BODY = "[{\"date\":\"01-01\",\"weather\":\"Sunny\"},{\"date\":\"01-02\",\"weather\":\"Rainy\"}]";
+
+    private HttpServer server;
+    private final AtomicInteger hits = new AtomicInteger();
+    private volatile StubBehavior behavior;
+
+    private interface StubBehavior {
+        void handle(HttpExchange exchange, int hit) throws Exception;
+    }
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/weather.json", exchange -> {
+            try {
+                behavior.handle(exchange, hits.incrementAndGet());
+            } catch (Exception ignored) {
+                // 클라이언트가 먼저 끊은 경우
+            } finally {
+                exchange.close();
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    void 날짜별_날씨를_반환하고_캐시_기간에는_다시_호출하지_않는다() {
+        // given
+        behavior = (exchange, hit) -> respond(exchange, 200, BODY);
+        WeatherClient weatherClient = createClient(properties());
+
+        // when
+        Map<LocalDate, String> first = weatherClient.getWeathers(List.of(DATE, DATE.plusDays(1), DATE.plusDays(5)));
+        Map<LocalDate, String> second = weatherClient.getWeathers(List.of(DATE));
+
+        // then
+        assertEquals(Map.of(DATE, "Sunny", DATE.plusDays(1), "Rainy"), first);
+        assertEquals("Sunny", second.get(DATE));
+        assertEquals(1, hits.get());
+    }
+
+    @Test
+    void 응답이_요청_타임아웃보다_늦으면_기다리지_않고_실패한다() {
+        // given
+        behavior = (exchange, hit) -> {
+            Thread.sleep(3000);
+            respond(exchange, 200, BODY);
+        };
+        WeatherClientProperties properties = properties();
+        properties.setRequestTimeout(Duration.ofMillis(200));
+        WeatherClient weatherClient = createClient(properties);
+
+        // when
+        long start = System.nanoTime();
+        assertThrows(ServerException.class, () -> weatherClient.getWeathers(List.of(DATE)));
+
+        // then
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 2000);
+    }
+
+    @Test
+    void 연속으로_실패하면_서킷이_열려_API_를_호출하지_않는다() {
+        // given
+        behavior = (exchange, hit) -> respond(exchange, 500, "error");
+        WeatherClientProperties properties = properties();
+        properties.setFailureThreshold(2);
+        WeatherClient weatherClient = createClient(properties);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            assertThrows(ServerException.class, () -> weatherClient.getWeathers(List.of(DATE)));
+        }
+
+        // then
+        assertEquals(2, hits.get());
+    }
+
+    @Test
+    void API_장애_시_마지막으로_받은_날씨로_응답한다() {
+        // given
+        behavior = (exchange, hit) -> {
+            if (hit == 1) {
+                respond(exchange, 200, BODY);
+            } else {
+                respond(exchange, 503, "unavailable");
+            }
+        };
+        WeatherClientProperties properties = properties();
+        properties.setCacheTtl(Duration.ZERO); // 매번 다시 조회
+        WeatherClient weatherClient = createClient(properties);
+        weatherClient.getWeathers(List.of(DATE));
+
+        // when
+        Map<LocalDate, String> result = weatherClient.getWeathers(List.of(DATE));
+
+        // then
+        assertEquals("Sunny", result.get(DATE));
+        assertEquals(2, hits.get());
+    }
+
+    @Test
+    void 오늘_날씨를_구하지_못하면_기본값을_사용한다() {
+        // given
+        behavior = (exchange, hit) -> respond(exchange, 500, "error");
+        WeatherClientProperties properties = properties();
+        properties.setDefaultWeather("Unknown");
+        WeatherClient weatherClient = createClient(properties);
+
+        // when
+        String weather = weatherClient.getTodayWeather();
+
+        // then
+        assertEquals("Unknown", weather);
+    }
+
+    @Test
+    void hedged_request_는_느린_첫_응답을_기다리지_않는다() {
+        // given
+        behavior = (exchange, hit) -> {
+            if (hit == 1) {
+                Thread.sleep(3000);
+            }
+            respond(exchange, 200, BODY);
+        };
+        WeatherClientProperties properties = properties();
+        properties.setRequestTimeout(Duration.ofSeconds(5));
+        properties.setHedgeDelay(Duration.ofMillis(100));
+        WeatherClient weatherClient = createClient(properties);
+
+        // when
+        long start = System.nanoTime();
+        Map<LocalDate, String> result = weatherClient.getWeathers(List.of(DATE));
+
+        // then
+        assertEquals("Sunny", result.get(DATE));
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() < 2000);
+        assertEquals(2, hits.get());
+    }
+
+    @Test
+    void hedged_request_에서_늦은_쪽_요청은_중단한다() throws Exception {
+        // given
+        CountDownLatch slowRequestAborted = new CountDownLatch(1);
+        behavior = (exchange, hit) -> {
+            if (hit == 1) {
+                // 헤더만 보내고 본문을 조금씩 흘려보내다가, 클라이언트가 연결을 끊으면 쓰기가 실패한다.
+                exchange.sendResponseHeaders(200, 0);
+                try (OutputStream outputStream = exchange.getResponseBody()) {
+                    for (int i = 0; i < 100; i++) {
+                        outputStream.write(' ');
+                        outputStream.flush();
+                        Thread.sleep(50);
+                    }
+                } catch (IOException e) {
+                    slowRequestAborted.countDown();
+                }
+                return;
+            }
+            respond(exchange, 200, BODY);
+        };
+        WeatherClientProperties properties = properties();
+        properties.setRequestTimeout(Duration.ofSeconds(10));
+        properties.setHedgeDelay(Duration.ofMillis(100));
+        WeatherClient weatherClient = createClient(properties);
+
+        // when
+        Map<LocalDate, String> result = weatherClient.getWeathers(List.of(DATE));
+
+        // then
+        assertEquals("Sunny", result.get(DATE));
+        assertTrue(slowRequestAborted.await(3, TimeUnit.SECONDS));
+    }
+
+    private WeatherClientProperties properties() {
+        WeatherClientProperties properties = new WeatherClientProperties();
+        properties.setBaseUrl("http://localhost:" + server.getAddress().getPort());
+        properties.setPath("/weather.json");
+        properties.setRequestTimeout(Duration.ofSeconds(1));
+        return properties;
+    }
+
+    private WeatherClient createClient(WeatherClientProperties properties) {
+        return new WeatherClient(properties, Jackson2ObjectMapperBuilder.json().build(), new SimpleMeterRegistry());
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package org.example.expert.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GcraRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    @Test
+    void capacity_만큼_연속_요청을_허용하고_초과하면_대기_시간을_반환한다() {
+        // given
+        GcraRateLimiter limiter = new GcraRateLimiter(3, 1);
+        long now = 100 * SECOND;
+
+        // when & then
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, limiter.tryAcquire(1L, now));
+        }
+        assertEquals(SECOND, limiter.tryAcquire(1L, now));
+    }
+
+    @Test
+    void 시간이_지나면_보충된_만큼_다시_허용한다() {
+        // given
+        GcraRateLimiter limiter = new GcraRateLimiter(2, 2);
+        long now = 100 * SECOND;
+        limiter.tryAcquire(1L, now);
+        limiter.tryAcquire(1L, now);
+
+        // when & then
+        assertTrue(limiter.tryAcquire(1L, now) > 0);
+        assertEquals(0, limiter.tryAcquire(1L, now + SECOND / 2));
+        assertTrue(limiter.tryAcquire(1L, now + SECOND / 2) > 0);
+    }
+
+    @Test
+    void 사용자별로_버킷이_분리된다() {
+        // given
+        GcraRateLimiter limiter = new GcraRateLimiter(1, 1);
+        long now = 100 * SECOND;
+
+        // when
+        limiter.tryAcquire(1L, now);
+
+        // then
+        assertTrue(limiter.tryAcquire(1L, now) > 0);
+        assertEquals(0, limiter.tryAcquire(2L, now));
+    }
+
+    @Test
+    void idle_시간이_지난_버킷만_제거된다() {
+        // given
+        GcraRateLimiter limiter = new GcraRateLimiter(1, 1);
+        long now = 100 * SECOND;
+        limiter.tryAcquire(1L, now);
+        limiter.tryAcquire(2L, now + 50 * SECOND);
+
+        // when
+        int evicted = limiter.evictIdle(now + 62 * SECOND, 60 * SECOND);
+
+        // then
+        assertEquals(1, evicted);
+        assertEquals(1, limiter.size());
+    }
+}
@@ -0,0 +1,31 @@
+package org.example.expert.config;
+
+import org.example.expert.domain.common.exception.ServiceOverloadedException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler globalExceptionHandler = new GlobalExceptionHandler();
+
+    @Test
+    void 동시_실행_한도_초과는_503_과_Retry_After_헤더로_응답한다() {
+        // given
+        ServiceOverloadedException ex = new ServiceOverloadedException("요청이 많아 처리할 수 없습니다.");
+
+        // when
+        ResponseEntity<Map<String, Object>> response = globalExceptionHandler.handleServiceOverloadedException(ex);
+
+        // then
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals(503, response.getBody().get("code"));
+        assertEquals("요청이 많아 처리할 수 없습니다.", response.getBody().get("message"));
+    }
+}
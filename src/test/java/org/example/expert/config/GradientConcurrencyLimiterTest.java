@@ -0,0 +1,99 @@
+package org.example.expert.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GradientConcurrencyLimiterTest {
+
+    private static final long MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    @Test
+    void 한도만큼_실행_중이면_추가_요청을_바로_거절한다() {
+        // given
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(3, 1, 10, 2.0, 0.2);
+
+        // when & then
+        for (int i = 0; i < 3; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+        assertFalse(limiter.tryAcquire());
+
+        limiter.onSample(10 * MILLI);
+        assertTrue(limiter.tryAcquire());
+    }
+
+    @Test
+    void 지연이_기준과_비슷하면_한도를_늘린다() {
+        // given
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(10, 2, 100, 2.0, 0.2);
+
+        // when
+        saturate(limiter, 10 * MILLI, 20);
+
+        // then
+        assertTrue(limiter.getLimit() > 10);
+    }
+
+    @Test
+    void 지연이_기준보다_크게_늘어나면_한도를_줄인다() {
+        // given
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(20, 4, 100, 2.0, 0.2);
+        saturate(limiter, 10 * MILLI, 5);
+        int limitBeforeSlowdown = limiter.getLimit();
+
+        // when
+        saturate(limiter, 500 * MILLI, 5);
+
+        // then
+        assertTrue(limiter.getLimit() < limitBeforeSlowdown);
+    }
+
+    @Test
+    void DB_실패가_반복되어도_최소_한도_아래로는_내려가지_않는다() {
+        // given
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(20, 4, 100, 2.0, 0.2);
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire();
+            limiter.onDropped();
+        }
+
+        // then
+        assertEquals(4, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void 실행_중인_요청이_한도의_절반보다_적으면_한도를_늘리지_않는다() {
+        // given
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(10, 2, 100, 2.0, 0.2);
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire();
+            limiter.onSample(10 * MILLI);
+        }
+
+        // then
+        assertEquals(10, limiter.getLimit());
+    }
+
+    // 한도까지 채운 뒤 모두 같은 지연으로 끝내기를 rounds 번 반복
+    private void saturate(GradientConcurrencyLimiter limiter, long rttNanos, int rounds) {
+        for (int round = 0; round < rounds; round++) {
+            int acquired = 0;
+            while (limiter.tryAcquire()) {
+                acquired++;
+            }
+            for (int i = 0; i < acquired; i++) {
+                limiter.onSample(rttNanos);
+            }
+        }
+    }
+}
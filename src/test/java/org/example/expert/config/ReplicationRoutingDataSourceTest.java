@@ -0,0 +1,113 @@
+package org.example.expert.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 임베디드 H2 두 개(primary, replica)로 readOnly 트랜잭션 라우팅을 검증한다.
+ * 각 DB의 node 테이블에 자신의 이름을 넣어두고, 쿼리 결과로 어느 DB로 라우팅되었는지 확인한다.
+ */
+class ReplicationRoutingDataSourceTest {
+
+    private DriverManagerDataSource replica;
+    private JdbcTemplate jdbcTemplate;
+    private DataSourceTransactionManager transactionManager;
+    private ReplicaHealthChecker replicaHealthChecker;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource primary = h2("primary");
+        replica = h2("replica");
+
+        new JdbcTemplate(primary).execute("CREATE TABLE node (name VARCHAR(20)); INSERT INTO node VALUES ('primary')");
+        new JdbcTemplate(replica).execute("CREATE TABLE node (name VARCHAR(20)); INSERT INTO node VALUES ('replica')");
+        new JdbcTemplate(replica).execute("CREATE TABLE replica_lag (seconds BIGINT); INSERT INTO replica_lag VALUES (0)");
+
+        replicaHealthChecker = new ReplicaHealthChecker(replica, "SELECT seconds FROM replica_lag", 5, new SimpleMeterRegistry());
+        replicaHealthChecker.check();
+
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(primary, replica, replicaHealthChecker);
+        routingDataSource.afterPropertiesSet();
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionManager = new DataSourceTransactionManager(dataSource);
+    }
+
+    @Test
+    void 읽기_전용_트랜잭션은_레플리카로_라우팅된다() {
+        // when
+        String node = currentNode(true);
+
+        // then
+        assertThat(node).isEqualTo("replica");
+    }
+
+    @Test
+    void 쓰기_트랜잭션은_프라이머리로_라우팅된다() {
+        // when
+        String node = currentNode(false);
+
+        // then
+        assertThat(node).isEqualTo("primary");
+    }
+
+    @Test
+    void 트랜잭션_밖의_쿼리는_프라이머리로_라우팅된다() {
+        // when
+        String node = jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+
+        // then
+        assertThat(node).isEqualTo("primary");
+    }
+
+    @Test
+    void 레플리카_지연이_허용치를_넘으면_프라이머리로_라우팅된다() {
+        // given
+        new JdbcTemplate(replica).update("UPDATE replica_lag SET seconds = 30");
+        replicaHealthChecker.check();
+
+        // when
+        String node = currentNode(true);
+
+        // then
+        assertThat(replicaHealthChecker.isAvailable()).isFalse();
+        assertThat(node).isEqualTo("primary");
+    }
+
+    @Test
+    void 레플리카에_연결할_수_없으면_프라이머리로_라우팅된다() {
+        // given
+        new JdbcTemplate(replica).execute("SHUTDOWN");
+        replicaHealthChecker.check();
+
+        // when
+        String node = currentNode(true);
+
+        // then
+        assertThat(replicaHealthChecker.isAvailable()).isFalse();
+        assertThat(node).isEqualTo("primary");
+    }
+
+    private String currentNode(boolean readOnly) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status ->
+                jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private DriverManagerDataSource h2(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+}
@@ -0,0 +1,72 @@
+package org.example.expert.domain.todo.autocomplete;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TitleTrieTest {
+
+    @Test
+    void 입력_중인_글자로도_한글_제목을_찾는다() {
+        // given
+        TitleTrie trie = new TitleTrie(10, 24, 3, 100);
+        trie.add("할일 정리");
+        trie.add("과제 제출");
+        trie.add("갉아먹기");
+
+        // when & then
+        assertEquals(List.of("할일 정리"), titles(trie.suggest("할ㅇ", 10)));
+        assertEquals(List.of("과제 제출"), titles(trie.suggest("고", 10)));
+        assertEquals(List.of("갉아먹기"), titles(trie.suggest("갈", 10)));
+        assertEquals(List.of("과제 제출"), titles(trie.suggest("제ㅊ", 10))); // 단어 시작
+    }
+
+    @Test
+    void 같은_제목의_일정이_많은_순으로_정렬한다() {
+        // given
+        TitleTrie trie = new TitleTrie(2, 24, 3, 100);
+        trie.add("Weekly report");
+        trie.add("weekly sync");
+        trie.add("weekly sync");
+        trie.add("Weekend");
+        trie.add("Weekend");
+        trie.add("Weekend");
+
+        // when & then
+        assertEquals(List.of("Weekend", "weekly sync"), titles(trie.suggest("WEE", 10)));
+        assertEquals(List.of("weekly sync", "Weekly report"), titles(trie.suggest("weekl", 10)));
+    }
+
+    @Test
+    void 최대_깊이보다_긴_접두어는_마지막_노드의_목록에서_거른다() {
+        // given
+        TitleTrie trie = new TitleTrie(10, 3, 3, 100);
+        trie.add("abcdef");
+        trie.add("abcxyz");
+
+        // when & then
+        assertEquals(List.of("abcxyz"), titles(trie.suggest("abcx", 10)));
+        assertEquals(2, trie.suggest("abc", 10).size());
+    }
+
+    @Test
+    void 제목_수_상한을_넘으면_새_제목은_색인하지_않는다() {
+        // given
+        TitleTrie trie = new TitleTrie(10, 24, 3, 1);
+
+        // when & then
+        assertTrue(trie.add("first"));
+        assertFalse(trie.add("second"));
+        assertTrue(trie.add("first")); // 기존 제목의 건수는 계속 반영
+        assertEquals(1, trie.titleCount());
+        assertEquals(2, trie.suggest("f", 10).get(0).getCount());
+    }
+
+    private static List<String> titles(List<TitleTrie.Suggestion> suggestions) {
+        return suggestions.stream().map(TitleTrie.Suggestion::getTitle).toList();
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.expert.domain.todo.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.enums.WeatherStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class TodoDetailCacheTest {
+
+    private static final long TODO_ID = 1L;
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    private final AtomicInteger loads = new AtomicInteger();
+    // 다른 인스턴스에서 바뀌어도 이 인스턴스에는 TodoDetailsChangedEvent 가 오지 않는다.
+    private final AtomicReference<TodoResponse> stored = new AtomicReference<>(todo(CREATED_AT, null));
+
+    @Test
+    void 수정일이_같으면_캐시된_상세를_사용한다() {
+        // given
+        TodoDetailCache cache = cache(Duration.ofMinutes(1));
+        cache.get(TODO_ID, CREATED_AT, this::load);
+
+        // when
+        TodoResponse result = cache.get(TODO_ID, CREATED_AT, this::load);
+
+        // then
+        assertNull(result.getWeather());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void 다른_인스턴스에서_바뀌어_수정일이_다르면_다시_조회한다() {
+        // given
+        TodoDetailCache cache = cache(Duration.ofMinutes(1));
+        cache.get(TODO_ID, CREATED_AT, this::load);
+        LocalDateTime modifiedAt = CREATED_AT.plusMinutes(1);
+        stored.set(todo(modifiedAt, "Sunny"));
+
+        // when
+        TodoResponse result = cache.get(TODO_ID, modifiedAt, this::load);
+        TodoResponse cachedAgain = cache.get(TODO_ID, modifiedAt, this::load);
+
+        // then
+        assertEquals("Sunny", result.getWeather());
+        assertEquals(modifiedAt, cachedAgain.getModifiedAt());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void 여러_건_조회는_ttl_이_지난_항목을_다시_조회한다() {
+        // given
+        TodoDetailCache cache = cache(Duration.ZERO);
+        cache.getAll(List.of(TODO_ID), this::load);
+        stored.set(todo(CREATED_AT.plusMinutes(1), "Sunny"));
+
+        // when
+        TodoResponse result = cache.getAll(List.of(TODO_ID), this::load).get(TODO_ID);
+
+        // then
+        assertEquals("Sunny", result.getWeather());
+        assertEquals(2, loads.get());
+    }
+
+    private TodoDetailCache cache(Duration ttl) {
+        return new TodoDetailCache(new SimpleMeterRegistry(), 100, ttl);
+    }
+
+    private List<TodoResponse> load(List<Long> todoIds) {
+        loads.incrementAndGet();
+        return List.of(stored.get());
+    }
+
+    private static TodoResponse todo(LocalDateTime modifiedAt, String weather) {
+        return new TodoResponse(TODO_ID, "title", "contents", weather, weather == null ? WeatherStatus.PENDING : WeatherStatus.READY,
+                1L, "writer@example.com", CREATED_AT, modifiedAt);
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.expert.domain.todo.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.todo.dto.TodoSearchCondition;
+import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TodoSearchCacheTest {
+
+    private final TodosVersion todosVersion = new TodosVersion();
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void 같은_버전이고_ttl_이내이면_캐시된_결과를_사용한다() {
+        // given
+        TodoSearchCache cache = cache(Duration.ofMinutes(1));
+        TodoSearchCondition condition = new TodoSearchCondition();
+
+        // when
+        cache.getOrLoad(condition, 1, 10, this::load);
+        cache.getOrLoad(condition, 1, 10, this::load);
+
+        // then
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void 이_인스턴스에서_버전이_올라가지_않아도_ttl_이_지나면_다시_조회한다() {
+        // given
+        TodoSearchCache cache = cache(Duration.ZERO);
+        TodoSearchCondition condition = new TodoSearchCondition();
+
+        // when
+        cache.getOrLoad(condition, 1, 10, this::load);
+        Page<TodoSearchResponse> result = cache.getOrLoad(condition, 1, 10, this::load);
+
+        // then
+        assertEquals(2, loads.get());
+        assertEquals("todo 2", result.getContent().get(0).getTitle());
+    }
+
+    private TodoSearchCache cache(Duration ttl) {
+        return new TodoSearchCache(todosVersion, new SimpleMeterRegistry(), 100, DataSize.ofMegabytes(1), ttl);
+    }
+
+    private Page<TodoSearchResponse> load() {
+        return new PageImpl<>(List.of(new TodoSearchResponse("todo " + loads.incrementAndGet(), 1L, 0L)));
+    }
+}
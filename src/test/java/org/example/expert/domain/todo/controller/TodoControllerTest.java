@@ -3,6 +3,7 @@ package org.example.expert.domain.todo.controller;
 import org.example.expert.domain.common.dto.AuthUser;
 import org.example.expert.domain.common.exception.InvalidRequestException;
 import org.example.expert.domain.todo.dto.response.TodoResponse;
+import org.example.expert.domain.todo.enums.WeatherStatus;
 import org.example.expert.domain.todo.service.TodoService;
 import org.example.expert.domain.user.dto.response.UserResponse;
 import org.example.expert.domain.user.entity.User;
@@ -43,13 +44,14 @@ class TodoControllerTest {
                 title,
                 "contents",
                 "Sunny",
+                WeatherStatus.READY,
                 userResponse,
                 LocalDateTime.now(),
                 LocalDateTime.now()
         );
 
         // when
-        when(todoService.getTodo(todoId)).thenReturn(response);
+        when(todoService.getTodo(todoId, null)).thenReturn(response);
 
         // then
         mockMvc.perform(get("/todos/{todoId}", todoId))
@@ -64,7 +66,7 @@ class TodoControllerTest {
         long todoId = 1L;
 
         // when
-        when(todoService.getTodo(todoId))
+        when(todoService.getTodo(todoId, null))
                 .thenThrow(new InvalidRequestException("Todo not found"));
 
         // then
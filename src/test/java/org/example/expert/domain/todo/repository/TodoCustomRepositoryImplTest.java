@@ -0,0 +1,210 @@
+package org.example.expert.domain.todo.repository;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.QuerydslConfig;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.dto.TodoSearchCondition;
+import org.example.expert.domain.todo.dto.response.TodoSearchFacetsResponse;
+import org.example.expert.domain.todo.dto.response.TodoSearchResponse;
+import org.example.expert.domain.todo.dto.response.TodoSummaryResponse;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.service.TodoArchiveService;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({QuerydslConfig.class, PersistenceConfig.class, TodoArchiveService.class})
+class TodoCustomRepositoryImplTest {
+
+    private static final LocalDateTime CUTOFF = LocalDateTime.of(2024, 1, 3, 0, 0);
+
+    @Autowired
+    private TodoRepository todoRepository;
+    @Autowired
+    private TodoArchiveService todoArchiveService;
+    @Autowired
+    private TestEntityManager em;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User writer;
+    private User other;
+
+    @BeforeEach
+    void setUp() {
+        writer = em.persist(new User("writer@example.com", "pw", "writer", UserRole.USER));
+        other = em.persist(new User("other@example.com", "pw", "other", UserRole.USER));
+    }
+
+    @Test
+    void 보관_작업은_기준_시각_이전_일정을_댓글_담당자와_함께_보관_테이블로_옮긴다() {
+        // given
+        Todo oldest = saveTodo("todo 1", LocalDateTime.of(2024, 1, 1, 9, 0));
+        Todo old = saveTodo("todo 2", LocalDateTime.of(2024, 1, 2, 9, 0));
+        Todo recent = saveTodo("todo 3", LocalDateTime.of(2024, 1, 3, 9, 0));
+        em.persist(new Comment("c1", other, old));
+        em.persist(new Comment("c2", other, recent));
+        em.flush();
+        em.clear();
+
+        // when
+        int firstBatch = todoArchiveService.archiveBatch(CUTOFF, 1);
+        int secondBatch = todoArchiveService.archiveBatch(CUTOFF, 10);
+        int thirdBatch = todoArchiveService.archiveBatch(CUTOFF, 10);
+        em.clear();
+
+        // then
+        assertEquals(List.of(1, 1, 0), List.of(firstBatch, secondBatch, thirdBatch));
+        assertEquals(List.of(recent.getId()), ids("SELECT id FROM todos ORDER BY id"));
+        assertEquals(List.of(oldest.getId(), old.getId()), ids("SELECT id FROM todos_archive ORDER BY id"));
+        assertEquals(List.of(recent.getId()), ids("SELECT todo_id FROM comments"));
+        assertEquals(List.of(old.getId()), ids("SELECT todo_id FROM comments_archive"));
+        assertEquals(List.of(recent.getId()), ids("SELECT todo_id FROM managers"));
+        assertEquals(List.of(oldest.getId(), old.getId()), ids("SELECT todo_id FROM managers_archive ORDER BY todo_id"));
+        assertTrue(todoRepository.findById(old.getId()).isEmpty());
+    }
+
+    @Test
+    void 보관_포함_검색은_두_테이블을_합쳐_작성일_역순으로_페이징한다() {
+        // given
+        saveTodo("search 1", LocalDateTime.of(2024, 1, 1, 9, 0));
+        Todo archivedWithComment = saveTodo("search 2", LocalDateTime.of(2024, 1, 2, 9, 0));
+        saveTodo("search 3", LocalDateTime.of(2024, 1, 3, 9, 0));
+        saveTodo("search 4", LocalDateTime.of(2024, 1, 4, 9, 0));
+        saveTodo("other", LocalDateTime.of(2024, 1, 5, 9, 0));
+        em.persist(new Comment("c1", other, archivedWithComment));
+        em.flush();
+        todoArchiveService.archiveBatch(CUTOFF, 10);
+        em.clear();
+
+        TodoSearchCondition condition = new TodoSearchCondition();
+        condition.setTitle("search");
+
+        // when
+        Page<TodoSearchResponse> first = todoRepository.searchTodosListIncludingArchive(condition, PageRequest.of(0, 3));
+        Page<TodoSearchResponse> second = todoRepository.searchTodosListIncludingArchive(condition, PageRequest.of(1, 3));
+
+        // then
+        assertEquals(4, first.getTotalElements());
+        assertEquals(List.of("search 4", "search 3", "search 2"), first.getContent().stream().map(TodoSearchResponse::getTitle).toList());
+        assertEquals(List.of(1L, 1L, 1L), first.getContent().stream().map(TodoSearchResponse::getManagerCount).toList());
+        assertEquals(List.of(0L, 0L, 1L), first.getContent().stream().map(TodoSearchResponse::getCommentCount).toList());
+        assertEquals(List.of("search 1"), second.getContent().stream().map(TodoSearchResponse::getTitle).toList());
+    }
+
+    @Test
+    void 보관_포함_목록은_두_테이블을_합쳐_id_순으로_페이징한다() {
+        // given
+        Todo first = saveTodo("todo 1", LocalDateTime.of(2024, 1, 1, 9, 0));
+        Todo second = saveTodo("todo 2", LocalDateTime.of(2024, 1, 3, 9, 0));
+        Todo third = saveTodo("todo 3", LocalDateTime.of(2024, 1, 2, 9, 0));
+        em.flush();
+        todoArchiveService.archiveBatch(CUTOFF, 10);
+        em.clear();
+
+        // when
+        Page<TodoSummaryResponse> page = todoRepository.searchTodosIncludingArchive(null, null, null, PageRequest.of(0, 2));
+        Page<TodoSummaryResponse> next = todoRepository.searchTodosIncludingArchive(null, null, null, PageRequest.of(1, 2));
+
+        // then
+        assertEquals(3, page.getTotalElements());
+        assertEquals(List.of(first.getId(), second.getId()), page.getContent().stream().map(TodoSummaryResponse::getId).toList());
+        assertEquals(List.of(third.getId()), next.getContent().stream().map(TodoSummaryResponse::getId).toList());
+        assertEquals(List.of(second.getId()), ids("SELECT id FROM todos"));
+    }
+
+    @Test
+    void facet_은_검색_조건에_맞는_일정의_날씨_월_담당자별_건수를_센다() {
+        // given
+        Todo january = saveTodo("facet 1", "Sunny", LocalDateTime.of(2024, 1, 10, 9, 0));
+        saveTodo("facet 2", "Rainy", LocalDateTime.of(2024, 1, 20, 9, 0));
+        Todo february = saveTodo("facet 3", "Sunny", LocalDateTime.of(2024, 2, 1, 9, 0));
+        saveTodo("ignored", "Snowy", LocalDateTime.of(2024, 3, 1, 9, 0));
+        em.persist(new Manager(other, january));
+        em.persist(new Manager(other, february));
+        em.flush();
+        em.clear();
+
+        TodoSearchCondition condition = new TodoSearchCondition();
+        condition.setTitle("facet");
+
+        // when
+        TodoSearchFacetsResponse facets = todoRepository.searchTodoFacets(condition, 10);
+        TodoSearchFacetsResponse topManager = todoRepository.searchTodoFacets(condition, 1);
+
+        // then
+        assertEquals(List.of("Sunny=2", "Rainy=1"), values(facets.getWeathers()));
+        assertEquals(List.of("2024-02=1", "2024-01=2"), values(facets.getMonths()));
+        assertEquals(List.of("writer=3", "other=2"), managers(facets.getManagers()));
+        assertEquals(List.of("writer=3"), managers(topManager.getManagers()));
+    }
+
+    @Test
+    void facet_은_담당자_닉네임_조건과_보관_포함_여부를_검색과_같게_적용한다() {
+        // given
+        Todo archived = saveTodo("facet 1", "Sunny", LocalDateTime.of(2024, 1, 1, 9, 0));
+        Todo hot = saveTodo("facet 2", "Rainy", LocalDateTime.of(2024, 2, 1, 9, 0));
+        saveTodo("facet 3", "Sunny", LocalDateTime.of(2024, 2, 2, 9, 0));
+        em.persist(new Manager(other, archived));
+        em.persist(new Manager(other, hot));
+        em.flush();
+        todoArchiveService.archiveBatch(CUTOFF, 10);
+        em.clear();
+
+        TodoSearchCondition condition = new TodoSearchCondition();
+        condition.setManagerNickname("oth");
+
+        // when
+        TodoSearchFacetsResponse hotOnly = todoRepository.searchTodoFacets(condition, 10);
+        condition.setIncludeArchived(true);
+        TodoSearchFacetsResponse withArchive = todoRepository.searchTodoFacets(condition, 10);
+
+        // then
+        assertEquals(List.of("Rainy=1"), values(hotOnly.getWeathers()));
+        assertEquals(List.of("2024-02=1"), values(hotOnly.getMonths()));
+        assertEquals(List.of("writer=1", "other=1"), managers(hotOnly.getManagers())); // 건수가 같으면 사용자 id 순
+        assertEquals(List.of("2024-02=1", "2024-01=1"), values(withArchive.getMonths()));
+        assertEquals(List.of("writer=2", "other=2"), managers(withArchive.getManagers()));
+    }
+
+    private Todo saveTodo(String title, LocalDateTime createdAt) {
+        return saveTodo(title, "Sunny", createdAt);
+    }
+
+    private Todo saveTodo(String title, String weather, LocalDateTime createdAt) {
+        Todo todo = em.persist(new Todo(title, "contents", weather, writer));
+        em.flush();
+        jdbcTemplate.update("UPDATE todos SET created_at = ? WHERE id = ?", createdAt, todo.getId());
+        return todo;
+    }
+
+    private static List<String> values(List<TodoSearchFacetsResponse.ValueCount> counts) {
+        return counts.stream().map(count -> count.getValue() + "=" + count.getCount()).toList();
+    }
+
+    private static List<String> managers(List<TodoSearchFacetsResponse.ManagerCount> counts) {
+        return counts.stream().map(count -> count.getNickname() + "=" + count.getCount()).toList();
+    }
+
+    private List<Long> ids(String sql) {
+        return jdbcTemplate.queryForList(sql, Long.class);
+    }
+}
@@ -0,0 +1,135 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.QuerydslConfig;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({QuerydslConfig.class, PersistenceConfig.class, TodoDailyStatService.class,
+        TodoArchiveService.class, TodoWeatherEnrichmentService.class})
+class TodoDailyStatServiceTest {
+
+    private static final LocalDate DAY = LocalDate.of(2024, 1, 1);
+
+    @Autowired
+    private TodoDailyStatService todoDailyStatService;
+    @Autowired
+    private TodoArchiveService todoArchiveService;
+    @Autowired
+    private TodoWeatherEnrichmentService todoWeatherEnrichmentService;
+    @Autowired
+    private TestEntityManager em;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = em.persist(new User("writer@example.com", "pw", "writer", UserRole.USER));
+    }
+
+    @Test
+    void 같은_날짜_날씨의_증가분은_한_행에_누적된다() {
+        // when
+        todoDailyStatService.increment(DAY.atTime(9, 0), "Sunny", 1, 0);
+        todoDailyStatService.increment(DAY.atTime(18, 0), "Sunny", 1, 0);
+        todoDailyStatService.increment(DAY.atTime(9, 0), null, 0, 1);
+        todoDailyStatService.incrementAll(List.of(
+                new TodoDailyStatService.Increment(DAY, "Sunny", 1, 2),
+                new TodoDailyStatService.Increment(DAY.plusDays(1), "Rainy", 1, 0),
+                new TodoDailyStatService.Increment(DAY, "Sunny", 0, 1)
+        ));
+
+        // then
+        assertEquals(List.of(
+                "2024-01-01||0|1",
+                "2024-01-01|Sunny|3|3",
+                "2024-01-02|Rainy|1|0"
+        ), stats());
+    }
+
+    @Test
+    void 하루치_집계를_보관_일정까지_포함해_원본에서_다시_계산한다() {
+        // given
+        Todo sunny = saveTodo(new Todo("sunny", "contents", "Sunny", writer), DAY.atTime(9, 0));
+        Todo pending = saveTodo(Todo.withPendingWeather("pending", "contents", writer), DAY.atTime(10, 0));
+        Todo archived = saveTodo(new Todo("archived", "contents", "Sunny", writer), DAY.atTime(11, 0));
+        saveTodo(new Todo("next day", "contents", "Sunny", writer), DAY.plusDays(1).atTime(9, 0));
+        em.persist(new Comment("c1", writer, sunny));
+        em.persist(new Comment("c2", writer, sunny));
+        em.persist(new Comment("c3", writer, pending));
+        em.persist(new Comment("c4", writer, archived));
+        em.flush();
+        // 이 일정만 보관되도록 기준 시각 이전으로 옮겼다가, 보관 후 원래 작성일로 되돌린다.
+        jdbcTemplate.update("UPDATE todos SET created_at = ? WHERE id = ?", DAY.minusDays(1).atTime(9, 0), archived.getId());
+        todoArchiveService.archiveBatch(DAY.atStartOfDay(), 10);
+        jdbcTemplate.update("UPDATE todos_archive SET created_at = ? WHERE id = ?", DAY.atTime(11, 0), archived.getId());
+        // 실제와 어긋난 집계
+        todoDailyStatService.increment(DAY.atTime(9, 0), "Rainy", 5, 5);
+
+        // when
+        todoDailyStatService.rebuildDay(DAY);
+
+        // then
+        assertEquals(List.of(
+                "2024-01-01||1|1",
+                "2024-01-01|Sunny|2|3"
+        ), stats());
+    }
+
+    @Test
+    void 날씨를_반영하면_날씨_없음으로_집계된_일정과_댓글_수를_옮긴다() {
+        // given
+        Todo pending = saveTodo(Todo.withPendingWeather("pending", "contents", writer), DAY.atTime(9, 0));
+        em.persist(new Comment("c1", writer, pending));
+        em.persist(new Comment("c2", writer, pending));
+        em.flush();
+        todoDailyStatService.increment(DAY.atTime(9, 0), null, 1, 2);
+        em.clear();
+
+        // when
+        TodoWeatherEnrichmentService.EnrichmentResult result =
+                todoWeatherEnrichmentService.applyWeathers(List.of(pending.getId()), Map.of(DAY, "Sunny"));
+
+        // then
+        assertEquals(1, result.completed());
+        assertEquals(List.of(
+                "2024-01-01||0|0",
+                "2024-01-01|Sunny|1|2"
+        ), stats());
+    }
+
+    private Todo saveTodo(Todo todo, LocalDateTime createdAt) {
+        em.persist(todo);
+        em.flush();
+        jdbcTemplate.update("UPDATE todos SET created_at = ? WHERE id = ?", createdAt, todo.getId());
+        return todo;
+    }
+
+    private List<String> stats() {
+        return jdbcTemplate.query(
+                "SELECT stat_date, weather, todo_count, comment_count FROM todo_daily_stats ORDER BY stat_date, weather",
+                (rs, rowNum) -> rs.getDate("stat_date").toLocalDate() + "|" + rs.getString("weather") + "|"
+                        + rs.getLong("todo_count") + "|" + rs.getLong("comment_count"));
+    }
+}
@@ -0,0 +1,96 @@
+package org.example.expert.domain.todo.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.QuerydslConfig;
+import org.example.expert.domain.comment.entity.Comment;
+import org.example.expert.domain.manager.entity.Manager;
+import org.example.expert.domain.todo.dto.TodoSearchCondition;
+import org.example.expert.domain.todo.entity.Todo;
+import org.example.expert.domain.todo.enums.ExportFormat;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({QuerydslConfig.class, PersistenceConfig.class, TodoExportService.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+// fetch size / clear 주기보다 많은 행을 내보내서 커서를 여러 번 이어 읽고, 중간에 영속성 컨텍스트를 비우는 경로까지 실행
+@TestPropertySource(properties = {"todo.export.fetch-size=2", "todo.export.clear-interval=1"})
+class TodoExportServiceTest {
+
+    @Autowired
+    private TodoExportService todoExportService;
+    @Autowired
+    private TestEntityManager em;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private DataSource dataSource;
+
+    @Test
+    void 검색_조건에_맞는_일정을_작성일_역순으로_담당자_댓글_수와_함께_내보낸다() throws Exception {
+        // given
+        User writer = em.persist(new User("writer@example.com", "pw", "writer", UserRole.USER));
+        User other = em.persist(new User("other@example.com", "pw", "other", UserRole.USER));
+        Todo oldest = saveTodo("export 1", writer, LocalDateTime.of(2024, 1, 1, 9, 0));
+        Todo middle = saveTodo("export 2", writer, LocalDateTime.of(2024, 1, 2, 9, 0));
+        Todo newest = saveTodo("export 3", writer, LocalDateTime.of(2024, 1, 3, 9, 0));
+        saveTodo("other", writer, LocalDateTime.of(2024, 1, 4, 9, 0));
+        em.persist(new Manager(other, middle));
+        em.persist(new Comment("c1", other, middle));
+        em.persist(new Comment("c2", writer, middle));
+        em.persist(new Comment("c3", other, newest));
+        em.flush();
+        em.clear();
+
+        TodoSearchCondition condition = new TodoSearchCondition();
+        condition.setTitle("export");
+
+        // when
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = todoExportService.export(condition, ExportFormat.CSV, out);
+
+        // then
+        assertEquals(3, rows);
+        assertEquals(List.of(
+                "id,title,weather,managerCount,commentCount,createdAt",
+                newest.getId() + ",export 3,Sunny,1,1,2024-01-03T09:00",
+                middle.getId() + ",export 2,Sunny,2,2,2024-01-02T09:00",
+                oldest.getId() + ",export 1,Sunny,1,0,2024-01-01T09:00"
+        ), out.toString(StandardCharsets.UTF_8).lines().toList());
+    }
+
+    @Test
+    void 커넥션_풀에_MySQL_서버_커서_옵션이_설정되어_있다() {
+        // fetch size 는 useCursorFetch=true 가 없으면 MySQL 드라이버에서 무시되고 결과 전체가 메모리에 올라간다.
+        HikariDataSource hikari = (HikariDataSource) dataSource;
+
+        assertEquals("true", hikari.getDataSourceProperties().getProperty("useCursorFetch"));
+    }
+
+    private Todo saveTodo(String title, User writer, LocalDateTime createdAt) {
+        Todo todo = em.persist(new Todo(title, "contents", "Sunny", writer));
+        em.flush();
+        jdbcTemplate.update("UPDATE todos SET created_at = ? WHERE id = ?", createdAt, todo.getId());
+        return todo;
+    }
+}
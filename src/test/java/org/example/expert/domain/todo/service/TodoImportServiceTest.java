@@ -0,0 +1,147 @@
+package org.example.expert.domain.todo.service;
+
+import org.example.expert.client.WeatherClient;
+import org.example.expert.config.PersistenceConfig;
+import org.example.expert.config.QuerydslConfig;
+import org.example.expert.domain.common.dto.AuthUser;
+import org.example.expert.domain.common.exception.ConflictException;
+import org.example.expert.domain.common.exception.InvalidRequestException;
+import org.example.expert.domain.todo.dto.response.TodoImportResponse;
+import org.example.expert.domain.todo.entity.TodoImportJob;
+import org.example.expert.domain.todo.enums.ImportJobStatus;
+import org.example.expert.domain.todo.repository.TodoImportJobRepository;
+import org.example.expert.domain.user.entity.User;
+import org.example.expert.domain.user.enums.UserRole;
+import org.example.expert.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({QuerydslConfig.class, PersistenceConfig.class, TodoImportService.class, TodoImportWriter.class, TodoDailyStatService.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@TestPropertySource(properties = {"todo.import.chunk-size=2", "todo.import.stale-timeout=5m"})
+// 청크마다 커밋되는 경로와 작업 행 잠금을 그대로 확인하기 위해 테스트 트랜잭션 없이 실행
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TodoImportServiceTest {
+
+    private static final String LINES = """
+            {"title":"import 1","contents":"c","createdAt":"2024-01-01T09:00:00"}
+            {"title":"import 2","contents":"c","createdAt":"2024-01-01T10:00:00"}
+            {"title":"import 3","contents":"c","createdAt":"2024-01-02T09:00:00"}
+            {"title":"import 4","contents":"c","createdAt":"2024-01-02T10:00:00"}
+            """;
+
+    @Autowired
+    private TodoImportService todoImportService;
+    @Autowired
+    private TodoImportWriter todoImportWriter;
+    @Autowired
+    private TodoImportJobRepository todoImportJobRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @MockBean
+    private WeatherClient weatherClient;
+
+    private AuthUser authUser;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(new User("importer@example.com", "pw", "importer", UserRole.USER));
+        authUser = new AuthUser(user.getId(), user.getEmail(), user.getNickname(), user.getUserRole());
+        given(weatherClient.getWeathers(anyCollection())).willReturn(Map.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM managers");
+        jdbcTemplate.update("DELETE FROM todos");
+        jdbcTemplate.update("DELETE FROM todo_daily_stats");
+        jdbcTemplate.update("DELETE FROM todo_import_jobs");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    void 중간에_실패한_작업을_재개하면_커밋된_줄은_건너뛰고_나머지만_등록한다() {
+        // given
+        String broken = LINES.replace("{\"title\":\"import 4\"", "{broken");
+        InvalidRequestException failure = assertThrows(InvalidRequestException.class,
+                () -> todoImportService.importTodos(authUser, null, stream(broken)));
+        TodoImportJob failed = todoImportJobRepository.findAll().get(0);
+        assertEquals(ImportJobStatus.FAILED, failed.getStatus());
+        assertEquals(2, failed.getProcessedLines(), failure.getMessage());
+
+        // when
+        TodoImportResponse response = todoImportService.importTodos(authUser, failed.getId(), stream(LINES));
+
+        // then
+        assertEquals(ImportJobStatus.COMPLETED, response.getStatus());
+        assertEquals(4, response.getImportedRows());
+        assertEquals(4, countTodos());
+        assertEquals(2, todoImportJobRepository.findById(failed.getId()).orElseThrow().getAttempt());
+    }
+
+    @Test
+    void 진행_중인_작업에_같은_jobId_로_다시_요청하면_409_로_거절하고_행을_중복_등록하지_않는다() {
+        // given
+        TodoImportJob running = todoImportWriter.startJob(authUser.getId(), null);
+
+        // when & then
+        assertThrows(ConflictException.class,
+                () -> todoImportService.importTodos(authUser, running.getId(), stream(LINES)));
+        assertEquals(0, countTodos());
+        assertEquals(ImportJobStatus.IN_PROGRESS, todoImportJobRepository.findById(running.getId()).orElseThrow().getStatus());
+    }
+
+    @Test
+    void 오래_멈춘_작업은_재개_요청이_이어받고_이전_요청의_청크는_반영되지_않는다() {
+        // given
+        TodoImportJob stale = todoImportWriter.startJob(authUser.getId(), null);
+        jdbcTemplate.update("UPDATE todo_import_jobs SET modified_at = ? WHERE id = ?",
+                LocalDateTime.now().minusMinutes(10), stale.getId());
+
+        // when
+        TodoImportJob takenOver = todoImportWriter.startJob(authUser.getId(), stale.getId());
+
+        // then
+        assertEquals(stale.getAttempt() + 1, takenOver.getAttempt());
+        assertThrows(ConflictException.class, () -> todoImportWriter.writeChunk(
+                stale.getId(), stale.getAttempt(), authUser.getId(), List.of(), Map.of(), 2));
+        assertEquals(2, todoImportWriter.writeChunk(
+                stale.getId(), takenOver.getAttempt(), authUser.getId(), List.of(), Map.of(), 2).getProcessedLines());
+    }
+
+    private long countTodos() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM todos", Long.class);
+    }
+
+    private InputStream stream(String lines) {
+        return new ByteArrayInputStream(lines.getBytes(StandardCharsets.UTF_8));
+    }
+}
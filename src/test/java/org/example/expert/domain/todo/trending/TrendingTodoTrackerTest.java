@@ -0,0 +1,84 @@
+package org.example.expert.domain.todo.trending;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.expert.domain.todo.enums.TrendingWindow;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TrendingTodoTrackerTest {
+
+    private static final long NOW = TimeUnit.DAYS.toMillis(20000);
+    private static final long MINUTE = TimeUnit.MINUTES.toMillis(1);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void 댓글_수가_많은_순으로_상위_K개만_남긴다() {
+        // given
+        TrendingTodoTracker tracker = tracker(2);
+        comment(tracker, 1L, 1, NOW);
+        comment(tracker, 2L, 3, NOW);
+        comment(tracker, 3L, 2, NOW);
+
+        // when
+        tracker.refresh(NOW);
+
+        // then
+        assertEquals(List.of(new TrendingTodoTracker.TrendingTodo(2L, 3), new TrendingTodoTracker.TrendingTodo(3L, 2)),
+                tracker.top(TrendingWindow.HOUR, 10));
+    }
+
+    @Test
+    void 구간이_지난_댓글은_집계에서_빠진다() {
+        // given
+        TrendingTodoTracker tracker = tracker(10);
+        comment(tracker, 1L, 5, NOW - 90 * MINUTE); // 1시간 전 ~ 하루 이내
+        comment(tracker, 2L, 1, NOW - 5 * MINUTE);
+
+        // when
+        tracker.refresh(NOW);
+
+        // then
+        assertEquals(List.of(new TrendingTodoTracker.TrendingTodo(2L, 1)), tracker.top(TrendingWindow.HOUR, 10));
+        assertEquals(List.of(new TrendingTodoTracker.TrendingTodo(1L, 5), new TrendingTodoTracker.TrendingTodo(2L, 1)),
+                tracker.top(TrendingWindow.DAY, 10));
+
+        // 하루가 지나면 모두 제거
+        tracker.refresh(NOW + TimeUnit.DAYS.toMillis(1));
+        assertTrue(tracker.top(TrendingWindow.DAY, 10).isEmpty());
+    }
+
+    @Test
+    void 스냅샷을_저장하고_다시_읽으면_집계가_유지된다() {
+        // given
+        TrendingTodoTracker tracker = tracker(10);
+        comment(tracker, 7L, 4, System.currentTimeMillis());
+        tracker.saveSnapshot();
+
+        // when
+        TrendingTodoTracker restarted = tracker(10);
+        restarted.loadSnapshot();
+
+        // then
+        assertEquals(List.of(new TrendingTodoTracker.TrendingTodo(7L, 4)), restarted.top(TrendingWindow.HOUR, 10));
+    }
+
+    private TrendingTodoTracker tracker(int topK) {
+        return new TrendingTodoTracker(new ObjectMapper(), new SimpleMeterRegistry(), topK, tempDir.resolve("trending.json"));
+    }
+
+    private static void comment(TrendingTodoTracker tracker, long todoId, int count, long nowMillis) {
+        for (int i = 0; i < count; i++) {
+            tracker.record(todoId, nowMillis);
+        }
+    }
+}
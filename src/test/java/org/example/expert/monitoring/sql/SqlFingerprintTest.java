@@ -0,0 +1,58 @@
+package org.example.expert.monitoring.sql;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SqlFingerprintTest {
+
+    @Test
+    void 리터럴과_공백이_달라도_같은_fingerprint_가_된다() {
+        // given
+        String sql1 = "SELECT * FROM todos WHERE id = 10 AND title = 'a'";
+        String sql2 = "select *\n  from todos where id = 25   and title = 'it''s'";
+
+        // when
+        String fingerprint1 = SqlFingerprint.of(sql1);
+        String fingerprint2 = SqlFingerprint.of(sql2);
+
+        // then
+        assertEquals("select * from todos where id = ? and title = ?", fingerprint1);
+        assertEquals(fingerprint1, fingerprint2);
+    }
+
+    @Test
+    void IN_목록은_개수와_상관없이_하나로_묶인다() {
+        // given
+        String sql1 = "select * from users u where u.id in (?, ?)";
+        String sql2 = "select * from users u where u.id in (1, 2, 3, 4)";
+
+        // when & then
+        assertEquals("select * from users u where u.id in (?+)", SqlFingerprint.of(sql1));
+        assertEquals(SqlFingerprint.of(sql1), SqlFingerprint.of(sql2));
+    }
+
+    @Test
+    void 주석은_제거된다() {
+        // given
+        String sql = "/* load todo */ select t.id from todos t -- trailing\n where t.id = ?";
+
+        // when
+        String fingerprint = SqlFingerprint.of(sql);
+
+        // then
+        assertEquals("select t.id from todos t where t.id = ?", fingerprint);
+    }
+
+    @Test
+    void 다중_VALUES_는_하나로_묶인다() {
+        // given
+        String sql = "insert into managers (todo_id, user_id) values (1, 2), (3, 4), (5, 6)";
+
+        // when
+        String fingerprint = SqlFingerprint.of(sql);
+
+        // then
+        assertEquals("insert into managers (todo_id, user_id) values (?, ?)+", fingerprint);
+    }
+}